@@ -1,9 +1,11 @@
 package com.joelmofraga.artists_albums_api.album.controller;
 
 import com.joelmofraga.artists_albums_api.album.dto.AlbumCreateRequest;
+import com.joelmofraga.artists_albums_api.album.dto.AlbumCursorPage;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumResponse;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumUpdateRequest;
 import com.joelmofraga.artists_albums_api.album.service.AlbumService;
+import com.joelmofraga.artists_albums_api.config.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -21,10 +23,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 import static com.joelmofraga.artists_albums_api.config.ApiPaths.ALBUMS;
 
@@ -39,6 +43,8 @@ import static com.joelmofraga.artists_albums_api.config.ApiPaths.ALBUMS;
 @RequestMapping(ALBUMS)
 public class AlbumController {
 
+    private static final String INCLUDE_COVER_URL = "coverUrl";
+
     private final AlbumService albumService;
 
     public AlbumController(AlbumService albumService) {
@@ -91,6 +97,7 @@ public class AlbumController {
     @Operation(summary = "Buscar álbum por ID", description = "Retorna um álbum pelo seu identificador.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Álbum encontrado"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
             @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content)
     })
@@ -98,9 +105,12 @@ public class AlbumController {
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<AlbumResponse> getById(
             @Parameter(description = "ID do álbum", example = "14")
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(albumService.getById(id));
+        AlbumResponse album = albumService.getById(id);
+        String etag = album.getUpdatedAt() != null ? ConditionalGet.etag("album", id, album.getUpdatedAt()) : null;
+        return ConditionalGet.respond(webRequest, album, etag, album.getUpdatedAt());
     }
 
     @Operation(
@@ -152,6 +162,9 @@ public class AlbumController {
                     **Paginação**
                     - `page` (0-based), `size`, `sort`
                     - Exemplo: `sort=title,asc`
+
+                    **Campos extras**
+                    - `include=coverUrl`: inclui a URL pré-assinada da capa de cada álbum da página (uma única consulta)
                     """
     )
     @Parameter(name = "page", in = ParameterIn.QUERY, description = "Número da página (0-based)", example = "0")
@@ -171,9 +184,68 @@ public class AlbumController {
             @Parameter(description = "Nome do artista (opcional)", example = "Metallica")
             @RequestParam(required = false) String artistName,
 
+            @Parameter(description = "Campos extras: coverUrl (opcional)", example = "coverUrl")
+            @RequestParam(required = false) Set<String> include,
+
             @ParameterObject Pageable pageable
     ) {
-        return ResponseEntity.ok(albumService.list(title, albumTypeCode, artistName, pageable));
+        Page<AlbumResponse> page = albumService.list(title, albumTypeCode, artistName, pageable);
+        if (includesCoverUrl(include)) {
+            albumService.attachCoverUrls(page.getContent());
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "Listar álbuns por cursor (keyset)",
+            description = """
+                    Lista álbuns usando paginação por cursor, sem OFFSET e sem a contagem total.
+                    Ativado pela presença do parâmetro `after`.
+
+                    **Cursor**
+                    - Primeira página: envie `after=` vazio
+                    - Próximas páginas: envie o `nextCursor` retornado na resposta anterior
+
+                    **Ordenação**
+                    - `sort`: `id` ou `title`, com direção opcional (ex.: `title,desc`)
+                    - A ordenação fica gravada no cursor; nas páginas seguintes o `sort` é ignorado
+
+                    **Campos extras**
+                    - `include=coverUrl`: inclui a URL pré-assinada da capa de cada álbum
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou tamanho inválidos", content = @Content)
+    })
+    @GetMapping(params = "after", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AlbumCursorPage> listByCursor(
+            @Parameter(description = "Filtra por título do álbum (opcional)", example = "Master")
+            @RequestParam(required = false) String title,
+
+            @Parameter(description = "Código do tipo do álbum (opcional)", example = "STUDIO")
+            @RequestParam(required = false) String albumTypeCode,
+
+            @Parameter(description = "Nome do artista (opcional)", example = "Metallica")
+            @RequestParam(required = false) String artistName,
+
+            @Parameter(description = "Cursor da página anterior (vazio para a primeira página)", example = "")
+            @RequestParam(value = "after", required = false) String after,
+
+            @Parameter(description = "Tamanho da página (1..100)", example = "10")
+            @RequestParam(value = "size", defaultValue = "10") int size,
+
+            @Parameter(description = "Ordenação: id|title,(asc|desc)", example = "title,asc")
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+
+            @Parameter(description = "Campos extras: coverUrl (opcional)", example = "coverUrl")
+            @RequestParam(required = false) Set<String> include
+    ) {
+        AlbumCursorPage page = albumService.listByCursor(title, albumTypeCode, artistName, after, size, sort);
+        if (includesCoverUrl(include)) {
+            albumService.attachCoverUrls(page.content());
+        }
+        return ResponseEntity.ok(page);
     }
 
     @Operation(
@@ -207,4 +279,8 @@ public class AlbumController {
     ) {
         return ResponseEntity.ok(albumService.getAlbumsByArtistName(artistName));
     }
+
+    private boolean includesCoverUrl(Set<String> include) {
+        return include != null && include.contains(INCLUDE_COVER_URL);
+    }
 }
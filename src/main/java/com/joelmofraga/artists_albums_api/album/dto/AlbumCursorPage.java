@@ -0,0 +1,9 @@
+package com.joelmofraga.artists_albums_api.album.dto;
+
+import java.util.List;
+
+public record AlbumCursorPage(
+        List<AlbumResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {}
@@ -1,5 +1,7 @@
 package com.joelmofraga.artists_albums_api.album.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.Instant;
 
 public class AlbumResponse {
@@ -15,6 +17,9 @@ public class AlbumResponse {
     private Instant createdAt;
     private Instant updatedAt;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String coverUrl;
+
     public AlbumResponse(
             Long id,
             String title,
@@ -43,4 +48,7 @@ public class AlbumResponse {
     public String getAlbumTypeDescription() { return albumTypeDescription; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getUpdatedAt() { return updatedAt; }
+    public String getCoverUrl() { return coverUrl; }
+
+    public void setCoverUrl(String coverUrl) { this.coverUrl = coverUrl; }
 }
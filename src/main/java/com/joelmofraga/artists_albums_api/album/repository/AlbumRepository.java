@@ -1,25 +1,68 @@
 package com.joelmofraga.artists_albums_api.album.repository;
 
 import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.dto.AlbumResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecificationExecutor<Album> {
 
-    Optional<Album> findFirstByTitleIgnoreCase(String title);
+    @Override
+    @EntityGraph(attributePaths = "albumType")
+    Page<Album> findAll(Specification<Album> spec, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Album a join fetch a.albumType order by a.id asc")
+    Stream<Album> streamAllForExport();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Album a where a.id = :id")
+    Optional<Album> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("""
+        select new com.joelmofraga.artists_albums_api.album.dto.AlbumResponse(
+            a.id, a.title, a.releaseYear, a.genre, t.code, t.description, a.createdAt, a.updatedAt
+        )
+        from Album a
+        join a.albumType t
+        where lower(a.title) = lower(:title)
+        order by a.id asc
+    """)
+    List<AlbumResponse> findResponsesByTitle(@Param("title") String title, Limit limit);
 
     @Query("""
-        select distinct a
+        select new com.joelmofraga.artists_albums_api.album.dto.AlbumResponse(
+            a.id, a.title, a.releaseYear, a.genre, t.code, t.description, a.createdAt, a.updatedAt
+        )
         from Album a
-        join a.artistAlbums aa
-        join aa.artist ar
-        where lower(ar.name) like lower(concat('%', :artistName, '%'))
+        join a.albumType t
+        where exists (
+            select 1
+            from ArtistAlbum aa
+            join aa.artist ar
+            where aa.album = a
+              and lower(ar.name) like lower(concat('%', :artistName, '%'))
+        )
         order by a.releaseYear asc nulls last, a.title asc
     """)
-    List<Album> findAlbumsByArtistNameIgnoreCase(@Param("artistName") String artistName);
-}
\ No newline at end of file
+    List<AlbumResponse> findResponsesByArtistName(@Param("artistName") String artistName);
+}
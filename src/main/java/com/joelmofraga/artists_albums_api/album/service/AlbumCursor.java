@@ -0,0 +1,88 @@
+package com.joelmofraga.artists_albums_api.album.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+record AlbumCursor(String field, Sort.Direction direction, String lastTitle, Long lastId) {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String SEPARATOR = "|";
+
+    static AlbumCursor start(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return new AlbumCursor(FIELD_ID, Sort.Direction.ASC, null, null);
+        }
+
+        String[] parts = sort.trim().split(",");
+        String field = parts[0].trim();
+        if (!FIELD_ID.equals(field) && !FIELD_TITLE.equals(field)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sort must be id or title");
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort direction: " + sort));
+        }
+
+        return new AlbumCursor(field, direction, null, null);
+    }
+
+    static AlbumCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+
+            String field = parts[0];
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            String lastTitle = FIELD_TITLE.equals(field) ? parts[3] : null;
+
+            if (!FIELD_ID.equals(field) && !FIELD_TITLE.equals(field)) {
+                throw new IllegalArgumentException("field");
+            }
+            return new AlbumCursor(field, direction, lastTitle, lastId);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = field + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR
+                + (lastTitle != null ? lastTitle : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    AlbumCursor after(Album last) {
+        return new AlbumCursor(field, direction, FIELD_TITLE.equals(field) ? last.getTitle() : null, last.getId());
+    }
+
+    Sort sort() {
+        if (FIELD_TITLE.equals(field)) {
+            return Sort.by(direction, FIELD_TITLE).and(Sort.by(direction, FIELD_ID));
+        }
+        return Sort.by(direction, FIELD_ID);
+    }
+
+    ScrollPosition position() {
+        if (lastId == null) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (FIELD_TITLE.equals(field)) {
+            keys.put(FIELD_TITLE, lastTitle);
+        }
+        keys.put(FIELD_ID, lastId);
+        return ScrollPosition.forward(keys);
+    }
+}
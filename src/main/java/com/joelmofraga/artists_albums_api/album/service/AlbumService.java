@@ -3,15 +3,20 @@ package com.joelmofraga.artists_albums_api.album.service;
 import com.joelmofraga.artists_albums_api.album.domain.Album;
 import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumCreateRequest;
+import com.joelmofraga.artists_albums_api.album.dto.AlbumCursorPage;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumResponse;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumUpdateRequest;
 import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
-import com.joelmofraga.artists_albums_api.album.repository.AlbumTypeRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.media.service.AlbumCoverService;
+import com.joelmofraga.artists_albums_api.media.service.AlbumCoverService.PresignedUrlResponse;
 import com.joelmofraga.artists_albums_api.websocket.dto.AlbumCreatedEvent;
 import com.joelmofraga.artists_albums_api.websocket.notifier.AlbumWsNotifier;
 import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -19,28 +24,38 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 public class AlbumService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final AlbumRepository albumRepository;
-    private final AlbumTypeRepository albumTypeRepository;
+    private final AlbumTypeCatalog albumTypeCatalog;
     private final AlbumWsNotifier notifier;
+    private final AlbumCoverService albumCoverService;
+    private final CatalogReadCaches caches;
 
     public AlbumService(
             AlbumRepository albumRepository,
-            AlbumTypeRepository albumTypeRepository,
-            AlbumWsNotifier notifier
+            AlbumTypeCatalog albumTypeCatalog,
+            AlbumWsNotifier notifier,
+            AlbumCoverService albumCoverService,
+            CatalogReadCaches caches
     ) {
         this.albumRepository = albumRepository;
-        this.albumTypeRepository = albumTypeRepository;
+        this.albumTypeCatalog = albumTypeCatalog;
         this.notifier = notifier;
+        this.albumCoverService = albumCoverService;
+        this.caches = caches;
     }
 
     @Transactional
     public AlbumResponse create(AlbumCreateRequest request) {
 
-        AlbumType type = albumTypeRepository.findByCodeIgnoreCase(request.getAlbumTypeCode().trim())
+        AlbumType type = albumTypeCatalog.findByCode(request.getAlbumTypeCode().trim())
                 .filter(AlbumType::getActive)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.BAD_REQUEST,
@@ -54,7 +69,7 @@ public class AlbumService {
         album.setAlbumType(type);
 
         Album saved = albumRepository.save(album);
-
+        evictAlbum(saved.getId());
 
         notifier.notifyAlbumCreated(
                 new AlbumCreatedEvent(
@@ -70,9 +85,9 @@ public class AlbumService {
 
     @Transactional(readOnly = true)
     public AlbumResponse getById(Long id) {
-        Album album = albumRepository.findById(id)
+        return caches.albumsById()
+                .get(id, key -> albumRepository.findById(key).map(this::toResponse))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Album not found: " + id));
-        return toResponse(album);
     }
 
     @Transactional(readOnly = true)
@@ -81,13 +96,15 @@ public class AlbumService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title is required");
         }
 
-        Album album = albumRepository.findFirstByTitleIgnoreCase(title.trim())
+        String trimmed = title.trim();
+
+        return caches.albumsByTitle()
+                .get(trimmed.toLowerCase(Locale.ROOT),
+                        key -> albumRepository.findResponsesByTitle(trimmed, Limit.of(1)).stream().findFirst())
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Album not found for title: " + title
                 ));
-
-        return toResponse(album);
     }
 
     @Transactional(readOnly = true)
@@ -96,11 +113,7 @@ public class AlbumService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "name is required");
         }
 
-        var albums = albumRepository.findAlbumsByArtistNameIgnoreCase(artistName.trim());
-
-        return albums.stream()
-                .map(this::toResponse)
-                .toList();
+        return albumRepository.findResponsesByArtistName(artistName.trim());
     }
 
     @Transactional
@@ -108,7 +121,7 @@ public class AlbumService {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Album not found: " + id));
 
-        AlbumType type = albumTypeRepository.findByCodeIgnoreCase(request.getAlbumTypeCode().trim())
+        AlbumType type = albumTypeCatalog.findByCode(request.getAlbumTypeCode().trim())
                 .filter(AlbumType::getActive)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.BAD_REQUEST,
@@ -121,6 +134,7 @@ public class AlbumService {
         album.setAlbumType(type);
 
         Album saved = albumRepository.save(album);
+        evictAlbum(saved.getId());
         return toResponse(saved);
     }
 
@@ -131,6 +145,75 @@ public class AlbumService {
             String artistName,
             Pageable pageable
     ) {
+        Specification<Album> spec = filters(title, albumTypeCode, artistName);
+
+        return albumRepository.findAll(spec, pageable).map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public AlbumCursorPage listByCursor(
+            String title,
+            String albumTypeCode,
+            String artistName,
+            String after,
+            int size,
+            String sort
+    ) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE
+            );
+        }
+
+        AlbumCursor cursor = (after != null && !after.isBlank())
+                ? AlbumCursor.decode(after.trim())
+                : AlbumCursor.start(sort);
+
+        Specification<Album> spec = filters(title, albumTypeCode, artistName);
+
+        Window<Album> window = albumRepository.findBy(spec, q -> q
+                .sortBy(cursor.sort())
+                .project("albumType")
+                .limit(size)
+                .scroll(cursor.position()));
+
+        List<Album> albums = window.getContent();
+        String nextCursor = window.hasNext() && !albums.isEmpty()
+                ? cursor.after(albums.get(albums.size() - 1)).encode()
+                : null;
+
+        return new AlbumCursorPage(
+                albums.stream().map(this::toResponse).toList(),
+                nextCursor,
+                nextCursor != null
+        );
+    }
+
+    public void attachCoverUrls(List<AlbumResponse> albums) {
+        if (albums.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PresignedUrlResponse> urls = albumCoverService.getCoverPresignedUrls(
+                albums.stream().map(AlbumResponse::getId).toList()
+        );
+
+        for (AlbumResponse album : albums) {
+            PresignedUrlResponse url = urls.get(album.getId());
+            if (url != null) {
+                album.setCoverUrl(url.url());
+            }
+        }
+    }
+
+    private void evictAlbum(Long id) {
+        caches.albumsById().evict(id);
+        caches.tracksByAlbum().evict(id);
+        caches.albumsByTitle().evictAll();
+    }
+
+    private Specification<Album> filters(String title, String albumTypeCode, String artistName) {
         Specification<Album> spec = (root, query, cb) -> cb.conjunction();
 
         if (title != null && !title.isBlank()) {
@@ -157,7 +240,7 @@ public class AlbumService {
             });
         }
 
-        return albumRepository.findAll(spec, pageable).map(this::toResponse);
+        return spec;
     }
 
     private AlbumResponse toResponse(Album a) {
@@ -0,0 +1,77 @@
+package com.joelmofraga.artists_albums_api.album.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumTypeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class AlbumTypeCatalog {
+
+    private static final String METRIC_LOOKUPS = "album.type.catalog.lookups";
+
+    private final AlbumTypeRepository albumTypeRepository;
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile Map<String, AlbumType> byCode = Map.of();
+
+    public AlbumTypeCatalog(AlbumTypeRepository albumTypeRepository, MeterRegistry meterRegistry) {
+        this.albumTypeRepository = albumTypeRepository;
+        this.hits = Counter.builder(METRIC_LOOKUPS).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_LOOKUPS).tag("result", "miss").register(meterRegistry);
+
+        Gauge.builder("album.type.catalog.size", this, c -> c.byCode.size()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void load() {
+        refresh();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.album-type.catalog.refresh-ms:300000}",
+            initialDelayString = "${app.album-type.catalog.refresh-ms:300000}"
+    )
+    public void refresh() {
+        Map<String, AlbumType> loaded = albumTypeRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(t -> normalize(t.getCode()), Function.identity()));
+
+        byCode = loaded;
+        log.debug("Album type catalog refreshed: {} types", loaded.size());
+    }
+
+    public Optional<AlbumType> findByCode(String code) {
+        if (code == null || code.isBlank()) {
+            return Optional.empty();
+        }
+
+        AlbumType cached = byCode.get(normalize(code));
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+
+        Optional<AlbumType> loaded = albumTypeRepository.findByCodeIgnoreCase(code.trim());
+        loaded.ifPresent(t -> refresh());
+        return loaded;
+    }
+
+    private String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -3,6 +3,7 @@ package com.joelmofraga.artists_albums_api.artist.controller;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistCreateRequest;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistResponse;
 import com.joelmofraga.artists_albums_api.artist.service.ArtistService;
+import com.joelmofraga.artists_albums_api.config.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -122,15 +124,19 @@ public class ArtistController {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ArtistResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
             @ApiResponse(responseCode = "404", description = "Não encontrado", content = @Content),
             @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content)
     })
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ArtistResponse> getById(
             @Parameter(description = "ID do artista", example = "1")
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(artistService.getById(id));
+        ArtistResponse artist = artistService.getById(id);
+        String etag = artist.getUpdatedAt() != null ? ConditionalGet.etag("artist", id, artist.getUpdatedAt()) : null;
+        return ConditionalGet.respond(webRequest, artist, etag, artist.getUpdatedAt());
     }
 
     @Operation(summary = "Atualizar artista", description = "Atualiza as informações de um artista pelo id.")
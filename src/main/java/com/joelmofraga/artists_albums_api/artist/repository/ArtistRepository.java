@@ -1,12 +1,30 @@
 package com.joelmofraga.artists_albums_api.artist.repository;
 
 import com.joelmofraga.artists_albums_api.artist.domain.Artist;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumArtistRow;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
-    List<Artist> findByNameContainingIgnoreCase(String name, Sort sort);
-}
 
+    @Query("""
+        select a
+        from Artist a
+        where lower(a.name) like lower(concat('%', :name, '%'))
+    """)
+    List<Artist> findByNameContainingIgnoreCase(@Param("name") String name, Sort sort);
+
+    @Query("""
+        select new com.joelmofraga.artists_albums_api.catalog.dto.AlbumArtistRow(aa.album.id, ar.id, ar.name)
+        from ArtistAlbum aa
+        join aa.artist ar
+        where aa.album.id in :albumIds
+        order by aa.album.id asc, ar.name asc
+    """)
+    List<AlbumArtistRow> findArtistRowsByAlbumIds(@Param("albumIds") Collection<Long> albumIds);
+}
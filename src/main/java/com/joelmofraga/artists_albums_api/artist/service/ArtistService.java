@@ -4,6 +4,7 @@ import com.joelmofraga.artists_albums_api.artist.domain.Artist;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistCreateRequest;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistResponse;
 import com.joelmofraga.artists_albums_api.artist.repository.ArtistRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -19,9 +20,11 @@ import java.util.List;
 public class ArtistService {
 
     private final ArtistRepository artistRepository;
+    private final CatalogReadCaches caches;
 
-    public ArtistService(ArtistRepository artistRepository) {
+    public ArtistService(ArtistRepository artistRepository, CatalogReadCaches caches) {
         this.artistRepository = artistRepository;
+        this.caches = caches;
     }
 
     @Transactional
@@ -32,6 +35,7 @@ public class ArtistService {
         artist.setGenre(request.getGenre() != null ? request.getGenre().trim() : null);
 
         Artist saved = artistRepository.save(artist);
+        caches.artistsById().evict(saved.getId());
 
         return new ArtistResponse(
                 saved.getId(),
@@ -87,9 +91,9 @@ public class ArtistService {
     }
 
     public ArtistResponse getById(Long id) {
-        Artist artist = artistRepository.findById(id)
+        return caches.artistsById()
+                .get(id, key -> artistRepository.findById(key).map(this::toResponse))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Artist not found: " + id));
-        return toResponse(artist);
     }
 
     @Transactional
@@ -102,6 +106,7 @@ public class ArtistService {
         artist.setGenre(request.getGenre() != null ? request.getGenre().trim() : null);
 
         Artist saved = artistRepository.save(artist);
+        caches.artistsById().evict(saved.getId());
         return toResponse(saved);
     }
 
@@ -0,0 +1,80 @@
+package com.joelmofraga.artists_albums_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class CaffeineReadThroughCache<K, V> implements ReadThroughCache<K, V> {
+
+    private final Cache<K, Optional<V>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CaffeineReadThroughCache(
+            String name,
+            MeterRegistry meterRegistry,
+            long maxSize,
+            Duration ttl,
+            Duration negativeTtl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((K key, Optional<V> value) -> value.isPresent() ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    @Override
+    public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+        Optional<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observed = generation.get();
+        Optional<V> loaded = loader.apply(key);
+        if (generation.get() == observed) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void evict(K key) {
+        invalidate(() -> cache.invalidate(key));
+        afterCompletion(() -> invalidate(() -> cache.invalidate(key)));
+    }
+
+    @Override
+    public void evictAll() {
+        invalidate(cache::invalidateAll);
+        afterCompletion(() -> invalidate(cache::invalidateAll));
+    }
+
+    private void invalidate(Runnable action) {
+        generation.incrementAndGet();
+        action.run();
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.joelmofraga.artists_albums_api.cache;
+
+import com.joelmofraga.artists_albums_api.album.dto.AlbumResponse;
+import com.joelmofraga.artists_albums_api.artist.dto.ArtistResponse;
+import com.joelmofraga.artists_albums_api.track.dto.TrackResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class CatalogReadCaches {
+
+    private final ReadThroughCache<Long, AlbumResponse> albumsById;
+    private final ReadThroughCache<String, AlbumResponse> albumsByTitle;
+    private final ReadThroughCache<Long, ArtistResponse> artistsById;
+    private final ReadThroughCache<Long, List<TrackResponse>> tracksByAlbum;
+
+    @Autowired
+    public CatalogReadCaches(
+            MeterRegistry meterRegistry,
+            @Value("${app.read-cache.enabled:true}") boolean enabled,
+            @Value("${app.read-cache.max-size:10000}") long maxSize,
+            @Value("${app.read-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.read-cache.negative-ttl-seconds:30}") long negativeTtlSeconds
+    ) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        Duration negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+
+        this.albumsById = create(enabled, "catalog.albums.by-id", meterRegistry, maxSize, ttl, negativeTtl);
+        this.albumsByTitle = create(enabled, "catalog.albums.by-title", meterRegistry, maxSize, ttl, negativeTtl);
+        this.artistsById = create(enabled, "catalog.artists.by-id", meterRegistry, maxSize, ttl, negativeTtl);
+        this.tracksByAlbum = create(enabled, "catalog.tracks.by-album", meterRegistry, maxSize, ttl, negativeTtl);
+    }
+
+    private CatalogReadCaches() {
+        this.albumsById = ReadThroughCache.disabled();
+        this.albumsByTitle = ReadThroughCache.disabled();
+        this.artistsById = ReadThroughCache.disabled();
+        this.tracksByAlbum = ReadThroughCache.disabled();
+    }
+
+    public static CatalogReadCaches disabled() {
+        return new CatalogReadCaches();
+    }
+
+    public ReadThroughCache<Long, AlbumResponse> albumsById() {
+        return albumsById;
+    }
+
+    public ReadThroughCache<String, AlbumResponse> albumsByTitle() {
+        return albumsByTitle;
+    }
+
+    public ReadThroughCache<Long, ArtistResponse> artistsById() {
+        return artistsById;
+    }
+
+    public ReadThroughCache<Long, List<TrackResponse>> tracksByAlbum() {
+        return tracksByAlbum;
+    }
+
+    public void evictAll() {
+        albumsById.evictAll();
+        albumsByTitle.evictAll();
+        artistsById.evictAll();
+        tracksByAlbum.evictAll();
+    }
+
+    private static <K, V> ReadThroughCache<K, V> create(
+            boolean enabled,
+            String name,
+            MeterRegistry meterRegistry,
+            long maxSize,
+            Duration ttl,
+            Duration negativeTtl
+    ) {
+        if (!enabled) {
+            return ReadThroughCache.disabled();
+        }
+        return new CaffeineReadThroughCache<>(name, meterRegistry, maxSize, ttl, negativeTtl);
+    }
+}
@@ -0,0 +1,28 @@
+package com.joelmofraga.artists_albums_api.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface ReadThroughCache<K, V> {
+
+    Optional<V> get(K key, Function<? super K, Optional<V>> loader);
+
+    void evict(K key);
+
+    void evictAll();
+
+    static <K, V> ReadThroughCache<K, V> disabled() {
+        return new ReadThroughCache<>() {
+            @Override
+            public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+                return loader.apply(key);
+            }
+
+            @Override
+            public void evict(K key) {}
+
+            @Override
+            public void evictAll() {}
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.joelmofraga.artists_albums_api.catalog.controller;
+
+import com.joelmofraga.artists_albums_api.catalog.service.CatalogExportService;
+import com.joelmofraga.artists_albums_api.catalog.service.CatalogExportService.Format;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+import static com.joelmofraga.artists_albums_api.config.ApiPaths.EXPORT;
+
+@Tag(
+        name = "Export",
+        description = """
+                Exportação completa do catálogo em streaming (NDJSON ou CSV).
+                """
+)
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping(EXPORT)
+public class CatalogExportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final CatalogExportService exportService;
+
+    public CatalogExportController(CatalogExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(
+            summary = "Exportar álbuns com artistas e faixas",
+            description = """
+                    Percorre todos os álbuns com um cursor no banco e escreve cada registro direto na resposta,
+                    sem paginação e sem carregar o catálogo em memória.
+
+                    **Formatos**
+                    - `ndjson` (padrão): um objeto JSON por álbum, com `artists` e `tracks`
+                    - `csv`: uma linha por álbum; artistas e títulos das faixas separados por `|`
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Sem permissão (requer ADMIN)", content = @Content)
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/albums")
+    public ResponseEntity<StreamingResponseBody> exportAlbums(
+            @Parameter(description = "Formato: ndjson|csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        Format parsed = parseFormat(format);
+
+        StreamingResponseBody body = out -> exportService.exportAlbums(parsed, out);
+
+        return ResponseEntity.ok()
+                .contentType(parsed == Format.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=albums." + parsed.name().toLowerCase(Locale.ROOT))
+                .body(body);
+    }
+
+    private Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv");
+        }
+    }
+}
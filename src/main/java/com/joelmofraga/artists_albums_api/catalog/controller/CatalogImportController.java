@@ -0,0 +1,80 @@
+package com.joelmofraga.artists_albums_api.catalog.controller;
+
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportReport;
+import com.joelmofraga.artists_albums_api.catalog.service.CatalogImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.joelmofraga.artists_albums_api.config.ApiPaths.IMPORT;
+
+@Tag(
+        name = "Import",
+        description = """
+                Carga em massa do catálogo (artistas, álbuns, vínculos e faixas) via NDJSON.
+                """
+)
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping(IMPORT)
+public class CatalogImportController {
+
+    private final CatalogImportService importService;
+
+    public CatalogImportController(CatalogImportService importService) {
+        this.importService = importService;
+    }
+
+    @Operation(
+            summary = "Importar catálogo (NDJSON)",
+            description = """
+                    Lê o corpo linha a linha (um objeto JSON por linha), sem carregar o arquivo em memória,
+                    e grava em lotes, cada lote em sua própria transação.
+
+                    **Tipos de linha**
+                    - `artist`: `ref`, `name`, `country`, `genre`
+                    - `album`: `ref`, `title`, `releaseYear`, `albumTypeCode`, `genre`, `artistRefs`
+                    - `track`: `albumRef`, `trackNumber`, `title`, `durationSeconds`
+
+                    `ref` é um identificador livre do arquivo, usado para ligar álbuns a artistas e faixas a álbuns.
+                    Linhas inválidas não interrompem a carga: são reportadas em `errors` com o número da linha.
+                    """
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    examples = @ExampleObject(
+                            name = "Exemplo de carga",
+                            value = """
+                                    {"type":"artist","ref":"a1","name":"Metallica","country":"US","genre":"Metal"}
+                                    {"type":"album","ref":"al1","title":"Master of Puppets","releaseYear":1986,"albumTypeCode":"STUDIO","artistRefs":["a1"]}
+                                    {"type":"track","albumRef":"al1","trackNumber":1,"title":"Battery","durationSeconds":312}
+                                    """
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Carga processada (ver relatório de erros por linha)"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Sem permissão (requer ADMIN)", content = @Content)
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportReport> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importNdjson(body));
+    }
+}
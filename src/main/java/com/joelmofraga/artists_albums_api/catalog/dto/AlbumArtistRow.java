@@ -0,0 +1,7 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+public record AlbumArtistRow(
+        Long albumId,
+        Long artistId,
+        String name
+) {}
@@ -0,0 +1,18 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+import java.util.List;
+
+public record AlbumExportRecord(
+        Long id,
+        String title,
+        Integer releaseYear,
+        String genre,
+        String albumTypeCode,
+        List<ArtistEntry> artists,
+        List<TrackEntry> tracks
+) {
+
+    public record ArtistEntry(Long id, String name) {}
+
+    public record TrackEntry(Integer trackNumber, String title, Integer durationSeconds) {}
+}
@@ -0,0 +1,8 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+public record AlbumTrackRow(
+        Long albumId,
+        Integer trackNumber,
+        String title,
+        Integer durationSeconds
+) {}
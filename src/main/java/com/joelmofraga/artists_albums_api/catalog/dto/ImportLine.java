@@ -0,0 +1,18 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+import java.util.List;
+
+public record ImportLine(
+        String type,
+        String ref,
+        String name,
+        String country,
+        String genre,
+        String title,
+        Integer releaseYear,
+        String albumTypeCode,
+        List<String> artistRefs,
+        String albumRef,
+        Integer trackNumber,
+        Integer durationSeconds
+) {}
@@ -0,0 +1,6 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+public record ImportLineError(
+        long line,
+        String message
+) {}
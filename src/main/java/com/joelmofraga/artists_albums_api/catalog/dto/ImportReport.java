@@ -0,0 +1,13 @@
+package com.joelmofraga.artists_albums_api.catalog.dto;
+
+import java.util.List;
+
+public record ImportReport(
+        long linesRead,
+        long artistsCreated,
+        long albumsCreated,
+        long tracksCreated,
+        long failedLines,
+        List<ImportLineError> errors,
+        boolean errorsTruncated
+) {}
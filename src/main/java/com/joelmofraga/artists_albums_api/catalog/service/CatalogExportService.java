@@ -0,0 +1,155 @@
+package com.joelmofraga.artists_albums_api.catalog.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.artist.repository.ArtistRepository;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumArtistRow;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumExportRecord;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumExportRecord.ArtistEntry;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumExportRecord.TrackEntry;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumTrackRow;
+import com.joelmofraga.artists_albums_api.track.repository.TrackRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class CatalogExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "id,title,release_year,genre,album_type_code,artists,track_count,tracks";
+
+    public enum Format { NDJSON, CSV }
+
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final TrackRepository trackRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CatalogExportService(
+            AlbumRepository albumRepository,
+            ArtistRepository artistRepository,
+            TrackRepository trackRepository,
+            EntityManager entityManager,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.albumRepository = albumRepository;
+        this.artistRepository = artistRepository;
+        this.trackRepository = trackRepository;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void exportAlbums(Format format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Album> albums = albumRepository.streamAllForExport()) {
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+
+                List<Album> chunk = new ArrayList<>(CHUNK_SIZE);
+                Iterator<Album> it = albums.iterator();
+                while (it.hasNext()) {
+                    chunk.add(it.next());
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeChunk(format, chunk, writer);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeChunk(format, chunk, writer);
+                }
+
+                writer.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void writeChunk(Format format, List<Album> chunk, Writer writer) throws IOException {
+        List<Long> albumIds = chunk.stream().map(Album::getId).toList();
+
+        Map<Long, List<ArtistEntry>> artists = new HashMap<>();
+        for (AlbumArtistRow row : artistRepository.findArtistRowsByAlbumIds(albumIds)) {
+            artists.computeIfAbsent(row.albumId(), id -> new ArrayList<>())
+                    .add(new ArtistEntry(row.artistId(), row.name()));
+        }
+
+        Map<Long, List<TrackEntry>> tracks = new HashMap<>();
+        for (AlbumTrackRow row : trackRepository.findTrackRowsByAlbumIds(albumIds)) {
+            tracks.computeIfAbsent(row.albumId(), id -> new ArrayList<>())
+                    .add(new TrackEntry(row.trackNumber(), row.title(), row.durationSeconds()));
+        }
+
+        for (Album album : chunk) {
+            AlbumExportRecord record = new AlbumExportRecord(
+                    album.getId(),
+                    album.getTitle(),
+                    album.getReleaseYear(),
+                    album.getGenre(),
+                    album.getAlbumType().getCode(),
+                    artists.getOrDefault(album.getId(), List.of()),
+                    tracks.getOrDefault(album.getId(), List.of())
+            );
+
+            if (format == Format.NDJSON) {
+                writer.write(jsonMapper.writeValueAsString(record));
+            } else {
+                writer.write(toCsv(record));
+            }
+            writer.write('\n');
+        }
+
+        writer.flush();
+        entityManager.clear();
+    }
+
+    private String toCsv(AlbumExportRecord record) {
+        return String.join(",",
+                String.valueOf(record.id()),
+                csv(record.title()),
+                record.releaseYear() == null ? "" : String.valueOf(record.releaseYear()),
+                csv(record.genre()),
+                csv(record.albumTypeCode()),
+                csv(record.artists().stream().map(ArtistEntry::name).collect(Collectors.joining("|"))),
+                String.valueOf(record.tracks().size()),
+                csv(record.tracks().stream().map(TrackEntry::title).collect(Collectors.joining("|")))
+        );
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,368 @@
+package com.joelmofraga.artists_albums_api.catalog.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
+import com.joelmofraga.artists_albums_api.album.service.AlbumTypeCatalog;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportLine;
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportLineError;
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportReport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String ROLE_PRIMARY = "PRIMARY";
+
+    private static final String TYPE_ARTIST = "artist";
+    private static final String TYPE_ALBUM = "album";
+    private static final String TYPE_TRACK = "track";
+
+    private static final String INSERT_ARTIST =
+            "insert into artist (id, name, country, genre) values (?, ?, ?, ?)";
+    private static final String INSERT_ALBUM =
+            "insert into album (id, title, release_year, album_type_id, genre) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_ALBUM_ARTIST =
+            "insert into album_artist (album_id, artist_id, role_id) values (?, ?, ?)";
+    private static final String INSERT_TRACK =
+            "insert into track (id, album_id, track_number, title, duration_seconds) values (?, ?, ?, ?, ?)";
+
+    private static final int[] ARTIST_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR};
+    private static final int[] ALBUM_TYPES = {Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.BIGINT, Types.VARCHAR};
+    private static final int[] ALBUM_ARTIST_TYPES = {Types.BIGINT, Types.BIGINT, Types.BIGINT};
+    private static final int[] TRACK_TYPES = {Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.VARCHAR, Types.INTEGER};
+
+    private final JsonMapper jsonMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AlbumTypeCatalog albumTypeCatalog;
+    private final CatalogReadCaches caches;
+    private final int batchSize;
+
+    public CatalogImportService(
+            JsonMapper jsonMapper,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AlbumTypeCatalog albumTypeCatalog,
+            CatalogReadCaches caches,
+            @Value("${app.import.batch-size:1000}") int batchSize
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.albumTypeCatalog = albumTypeCatalog;
+        this.caches = caches;
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport importNdjson(InputStream body) throws IOException {
+        Long primaryRoleId = jdbcTemplate.queryForObject(
+                "select id from album_artist_role where code = ?", Long.class, ROLE_PRIMARY
+        );
+
+        ImportSession session = new ImportSession(primaryRoleId);
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            session.linesRead++;
+
+            try {
+                chunk.add(parse(lineNumber, line));
+            } catch (JacksonException ex) {
+                session.reject(lineNumber, "JSON inválido: " + ex.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException ex) {
+                session.reject(lineNumber, ex.getMessage());
+                continue;
+            }
+
+            if (chunk.size() >= batchSize) {
+                flush(session, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(session, chunk);
+        }
+
+        return session.report();
+    }
+
+    private ImportRow parse(long lineNumber, String json) {
+        ImportLine data = jsonMapper.readValue(json, ImportLine.class);
+
+        String type = data.type() == null ? "" : data.type().trim().toLowerCase(Locale.ROOT);
+        switch (type) {
+            case TYPE_ARTIST -> {
+                requireText(data.ref(), "ref", 100);
+                requireText(data.name(), "name", 200);
+            }
+            case TYPE_ALBUM -> {
+                requireText(data.ref(), "ref", 100);
+                requireText(data.title(), "title", 250);
+                requireText(data.albumTypeCode(), "albumTypeCode", 50);
+                if (data.releaseYear() == null) {
+                    throw new IllegalArgumentException("releaseYear é obrigatório.");
+                }
+            }
+            case TYPE_TRACK -> {
+                requireText(data.albumRef(), "albumRef", 100);
+                requireText(data.title(), "title", 250);
+                if (data.trackNumber() == null || data.trackNumber() <= 0) {
+                    throw new IllegalArgumentException("trackNumber deve ser > 0.");
+                }
+                if (data.durationSeconds() != null && data.durationSeconds() < 0) {
+                    throw new IllegalArgumentException("durationSeconds deve ser >= 0.");
+                }
+            }
+            default -> throw new IllegalArgumentException("type deve ser artist, album ou track.");
+        }
+
+        return new ImportRow(lineNumber, type, data);
+    }
+
+    private void requireText(String value, String field, int maxLength) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " é obrigatório.");
+        }
+        if (value.trim().length() > maxLength) {
+            throw new IllegalArgumentException(field + " excede " + maxLength + " caracteres.");
+        }
+    }
+
+    private void flush(ImportSession session, List<ImportRow> chunk) {
+        try {
+            session.apply(transactionTemplate.execute(status -> writeChunk(session, chunk)));
+        } catch (DataAccessException ex) {
+            log.warn("Import chunk of {} lines failed, retrying line by line: {}",
+                    chunk.size(), ex.getMostSpecificCause().getMessage());
+
+            for (ImportRow row : chunk) {
+                try {
+                    session.apply(transactionTemplate.execute(status -> writeChunk(session, List.of(row))));
+                } catch (DataAccessException rowEx) {
+                    session.reject(row.lineNumber(), rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        } finally {
+            caches.evictAll();
+        }
+    }
+
+    private ChunkResult writeChunk(ImportSession session, List<ImportRow> rows) {
+        ChunkResult result = new ChunkResult();
+
+        List<ImportRow> artists = rows.stream().filter(r -> r.type().equals(TYPE_ARTIST)).toList();
+        List<ImportRow> albums = rows.stream().filter(r -> r.type().equals(TYPE_ALBUM)).toList();
+        List<ImportRow> tracks = rows.stream().filter(r -> r.type().equals(TYPE_TRACK)).toList();
+
+        List<Object[]> artistArgs = new ArrayList<>(artists.size());
+        List<Long> artistIds = allocateIds("artist_id_seq", artists.size());
+        for (int i = 0; i < artists.size(); i++) {
+            ImportLine data = artists.get(i).data();
+            String ref = data.ref().trim();
+
+            if (session.artistRefs.containsKey(ref) || result.artistRefs.containsKey(ref)) {
+                result.reject(artists.get(i).lineNumber(), "ref de artista duplicada: " + ref);
+                continue;
+            }
+
+            Long id = artistIds.get(i);
+            result.artistRefs.put(ref, id);
+            artistArgs.add(new Object[]{id, data.name().trim(), trimToNull(data.country()), trimToNull(data.genre())});
+        }
+
+        List<Object[]> albumArgs = new ArrayList<>(albums.size());
+        List<Object[]> albumArtistArgs = new ArrayList<>();
+        List<Long> albumIds = allocateIds("album_id_seq", albums.size());
+        for (int i = 0; i < albums.size(); i++) {
+            ImportRow row = albums.get(i);
+            ImportLine data = row.data();
+            String ref = data.ref().trim();
+
+            if (session.albumRefs.containsKey(ref) || result.albumRefs.containsKey(ref)) {
+                result.reject(row.lineNumber(), "ref de álbum duplicada: " + ref);
+                continue;
+            }
+
+            AlbumType albumType = albumTypeCatalog.findByCode(data.albumTypeCode().trim())
+                    .filter(AlbumType::getActive)
+                    .orElse(null);
+            if (albumType == null) {
+                result.reject(row.lineNumber(), "albumTypeCode inválido ou inativo: " + data.albumTypeCode());
+                continue;
+            }
+
+            LinkedHashSet<Long> linkedArtists = new LinkedHashSet<>();
+            String missingArtist = null;
+            for (String artistRef : data.artistRefs() == null ? List.<String>of() : data.artistRefs()) {
+                Long artistId = artistRef == null ? null : result.resolveArtist(session, artistRef.trim());
+                if (artistId == null) {
+                    missingArtist = artistRef;
+                    break;
+                }
+                linkedArtists.add(artistId);
+            }
+            if (missingArtist != null) {
+                result.reject(row.lineNumber(), "artistRef não encontrada: " + missingArtist);
+                continue;
+            }
+
+            Long id = albumIds.get(i);
+            result.albumRefs.put(ref, id);
+            albumArgs.add(new Object[]{id, data.title().trim(), data.releaseYear(), albumType.getId(), trimToNull(data.genre())});
+            for (Long artistId : linkedArtists) {
+                albumArtistArgs.add(new Object[]{id, artistId, session.primaryRoleId});
+            }
+        }
+
+        List<Object[]> trackArgs = new ArrayList<>(tracks.size());
+        List<Long> trackIds = allocateIds("track_id_seq", tracks.size());
+        for (int i = 0; i < tracks.size(); i++) {
+            ImportRow row = tracks.get(i);
+            ImportLine data = row.data();
+
+            Long albumId = result.resolveAlbum(session, data.albumRef().trim());
+            if (albumId == null) {
+                result.reject(row.lineNumber(), "albumRef não encontrada: " + data.albumRef());
+                continue;
+            }
+
+            trackArgs.add(new Object[]{trackIds.get(i), albumId, data.trackNumber(), data.title().trim(), data.durationSeconds()});
+        }
+
+        batchInsert(INSERT_ARTIST, artistArgs, ARTIST_TYPES);
+        batchInsert(INSERT_ALBUM, albumArgs, ALBUM_TYPES);
+        batchInsert(INSERT_ALBUM_ARTIST, albumArtistArgs, ALBUM_ARTIST_TYPES);
+        batchInsert(INSERT_TRACK, trackArgs, TRACK_TYPES);
+
+        result.artists = artistArgs.size();
+        result.albums = albumArgs.size();
+        result.tracks = trackArgs.size();
+        return result;
+    }
+
+    private List<Long> allocateIds(String sequence, int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                "select nextval('" + sequence + "') from generate_series(1, ?)", Long.class, count
+        );
+    }
+
+    private void batchInsert(String sql, List<Object[]> args, int[] types) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args, types);
+        }
+    }
+
+    private String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private record ImportRow(long lineNumber, String type, ImportLine data) {}
+
+    private static final class ChunkResult {
+
+        private final Map<String, Long> artistRefs = new HashMap<>();
+        private final Map<String, Long> albumRefs = new HashMap<>();
+        private final List<ImportLineError> rejected = new ArrayList<>();
+        private long artists;
+        private long albums;
+        private long tracks;
+
+        private void reject(long line, String message) {
+            rejected.add(new ImportLineError(line, message));
+        }
+
+        private Long resolveArtist(ImportSession session, String ref) {
+            Long id = artistRefs.get(ref);
+            return id != null ? id : session.artistRefs.get(ref);
+        }
+
+        private Long resolveAlbum(ImportSession session, String ref) {
+            Long id = albumRefs.get(ref);
+            return id != null ? id : session.albumRefs.get(ref);
+        }
+    }
+
+    private static final class ImportSession {
+
+        private final Long primaryRoleId;
+        private final Map<String, Long> artistRefs = new HashMap<>();
+        private final Map<String, Long> albumRefs = new HashMap<>();
+        private final List<ImportLineError> errors = new ArrayList<>();
+        private long linesRead;
+        private long artists;
+        private long albums;
+        private long tracks;
+        private long failedLines;
+
+        private ImportSession(Long primaryRoleId) {
+            this.primaryRoleId = primaryRoleId;
+        }
+
+        private void apply(ChunkResult result) {
+            artistRefs.putAll(result.artistRefs);
+            albumRefs.putAll(result.albumRefs);
+            artists += result.artists;
+            albums += result.albums;
+            tracks += result.tracks;
+            result.rejected.forEach(e -> reject(e.line(), e.message()));
+        }
+
+        private void reject(long line, String message) {
+            failedLines++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportLineError(line, message));
+            }
+        }
+
+        private ImportReport report() {
+            errors.sort(Comparator.comparingLong(ImportLineError::line));
+            return new ImportReport(
+                    linesRead,
+                    artists,
+                    albums,
+                    tracks,
+                    failedLines,
+                    List.copyOf(errors),
+                    failedLines > errors.size()
+            );
+        }
+    }
+}
@@ -13,4 +13,6 @@ public final class ApiPaths {
     public static final String ALBUMS = V1 + "/albums";
     public static final String TRACKS = V1 + "/tracks";
     public static final String MEDIA = V1 + "/media";
+    public static final String IMPORT = V1 + "/import";
+    public static final String EXPORT = V1 + "/export";
 }
\ No newline at end of file
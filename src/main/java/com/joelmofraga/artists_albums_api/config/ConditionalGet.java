@@ -0,0 +1,37 @@
+package com.joelmofraga.artists_albums_api.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ConditionalGet() {}
+
+    public static String etag(String resource, Object id, Object... version) {
+        StringBuilder sb = new StringBuilder(resource).append('-').append(id);
+        for (Object part : version) {
+            sb.append('-').append(part instanceof Instant instant ? instant.toEpochMilli() : part);
+        }
+        return "\"" + sb + "\"";
+    }
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, T body, String etag, Instant lastModified) {
+        if (etag == null || lastModified == null) {
+            return ResponseEntity.ok(body);
+        }
+        if (request.checkNotModified(etag, lastModified.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(REVALIDATE)
+                .body(body);
+    }
+}
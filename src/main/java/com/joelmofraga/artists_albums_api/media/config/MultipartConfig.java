@@ -0,0 +1,26 @@
+package com.joelmofraga.artists_albums_api.media.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${storage.s3.cover.max-size-bytes:10485760}") long maxCoverSizeBytes,
+            @Value("${storage.s3.cover.request-overhead-bytes:1048576}") long requestOverheadBytes,
+            @Value("${spring.servlet.multipart.file-size-threshold:256KB}") DataSize fileSizeThreshold,
+            @Value("${spring.servlet.multipart.location:}") String location
+    ) {
+        return new MultipartConfigElement(
+                location,
+                maxCoverSizeBytes,
+                maxCoverSizeBytes + requestOverheadBytes,
+                (int) fileSizeThreshold.toBytes()
+        );
+    }
+}
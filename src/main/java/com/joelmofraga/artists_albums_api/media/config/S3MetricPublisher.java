@@ -0,0 +1,62 @@
+package com.joelmofraga.artists_albums_api.media.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class S3MetricPublisher implements MetricPublisher {
+
+    static final String CALLS = "s3.client.calls";
+    static final String RETRIES = "s3.client.retries";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void publish(MetricCollection metrics) {
+        Duration duration = first(metrics, CoreMetric.API_CALL_DURATION);
+        if (duration == null) {
+            return;
+        }
+
+        String operation = valueOrUnknown(first(metrics, CoreMetric.OPERATION_NAME));
+        Boolean successful = first(metrics, CoreMetric.API_CALL_SUCCESSFUL);
+        String outcome = Boolean.TRUE.equals(successful) ? "success" : "error";
+
+        Timer.builder(CALLS)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration);
+
+        Integer retries = first(metrics, CoreMetric.RETRY_COUNT);
+        if (retries != null && retries > 0) {
+            Counter.builder(RETRIES)
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment(retries);
+        }
+    }
+
+    @Override
+    public void close() {}
+
+    private static <T> T first(MetricCollection metrics, SdkMetric<T> metric) {
+        List<T> values = metrics.metricValues(metric);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static String valueOrUnknown(String value) {
+        return value == null ? "unknown" : value;
+    }
+}
@@ -5,16 +5,35 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class S3MinioConfig {
 
+    @Value("${storage.s3.client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${storage.s3.client.read-timeout-ms:30000}")
+    private long readTimeoutMs;
+
+    @Value("${storage.s3.client.api-call-timeout-ms:120000}")
+    private long apiCallTimeoutMs;
+
+    @Value("${storage.s3.client.max-retries:3}")
+    private int maxRetries;
+
     private StaticCredentialsProvider creds(String accessKey, String secretKey) {
         return StaticCredentialsProvider.create(
                 AwsBasicCredentials.create(accessKey, secretKey)
@@ -27,19 +46,61 @@ public class S3MinioConfig {
                 .build();
     }
 
+    private ClientOverrideConfiguration overrides(S3MetricPublisher metricPublisher) {
+        return ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.builder(RetryMode.STANDARD).numRetries(maxRetries).build())
+                .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMs))
+                .addMetricPublisher(metricPublisher)
+                .build();
+    }
+
 
     @Bean
     public S3Client s3Client(
             @Value("${storage.s3.endpoint.internal}") String endpoint,
             @Value("${storage.s3.region}") String region,
             @Value("${storage.s3.access-key}") String accessKey,
-            @Value("${storage.s3.secret-key}") String secretKey
+            @Value("${storage.s3.secret-key}") String secretKey,
+            S3MetricPublisher metricPublisher
     ) {
         return S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
                 .credentialsProvider(creds(accessKey, secretKey))
                 .serviceConfiguration(s3Config())
+                .httpClientBuilder(UrlConnectionHttpClient.builder()
+                        .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .socketTimeout(Duration.ofMillis(readTimeoutMs)))
+                .overrideConfiguration(overrides(metricPublisher))
+                .build();
+    }
+
+
+    @Bean
+    public S3AsyncClient s3AsyncClient(
+            @Value("${storage.s3.endpoint.internal}") String endpoint,
+            @Value("${storage.s3.region}") String region,
+            @Value("${storage.s3.access-key}") String accessKey,
+            @Value("${storage.s3.secret-key}") String secretKey,
+            @Value("${storage.s3.client.max-connections:64}") int maxConnections,
+            @Value("${storage.s3.client.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            @Value("${storage.s3.client.max-idle-ms:60000}") long maxIdleMs,
+            S3MetricPublisher metricPublisher
+    ) {
+        return S3AsyncClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(creds(accessKey, secretKey))
+                .serviceConfiguration(s3Config())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConnections)
+                        .connectionTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .readTimeout(Duration.ofMillis(readTimeoutMs))
+                        .writeTimeout(Duration.ofMillis(readTimeoutMs))
+                        .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMs))
+                        .connectionMaxIdleTime(Duration.ofMillis(maxIdleMs))
+                        .tcpKeepAlive(true))
+                .overrideConfiguration(overrides(metricPublisher))
                 .build();
     }
 
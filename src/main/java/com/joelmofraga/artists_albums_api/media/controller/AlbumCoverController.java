@@ -9,9 +9,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
 
 import static com.joelmofraga.artists_albums_api.config.ApiPaths.MEDIA;
 
@@ -26,6 +31,8 @@ import static com.joelmofraga.artists_albums_api.config.ApiPaths.MEDIA;
 @RequestMapping(MEDIA)
 public class AlbumCoverController {
 
+    private static final int MAX_BATCH_ALBUM_IDS = 100;
+
     private final AlbumCoverService service;
 
     public AlbumCoverController(AlbumCoverService service) {
@@ -43,7 +50,8 @@ public class AlbumCoverController {
                     content = @Content(schema = @Schema(implementation = AlbumCoverUploadResponse.class))),
             @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
-            @ApiResponse(responseCode = "404", description = "Álbum não encontrado")
+            @ApiResponse(responseCode = "404", description = "Álbum não encontrado"),
+            @ApiResponse(responseCode = "413", description = "Arquivo maior que o tamanho máximo permitido")
     })
     @PostMapping(
             value = "/{albumId}/cover",
@@ -64,18 +72,49 @@ public class AlbumCoverController {
             summary = "Obter link pré-assinado da capa",
             description = """
                     Retorna uma URL temporária (pré-assinada) para acesso direto à capa do álbum no S3/MinIO.
+                    Com `size` retorna a variante redimensionada (JPEG); enquanto ela não foi gerada, retorna a original.
                     """
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "URL gerada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Tamanho inválido"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "404", description = "Capa não encontrada para o álbum")
     })
     @GetMapping("/{albumId}/cover")
     public AlbumCoverService.PresignedUrlResponse getCoverUrl(
             @Parameter(description = "ID do álbum", example = "14")
-            @PathVariable Long albumId
+            @PathVariable Long albumId,
+
+            @Parameter(description = "Tamanho máximo em pixels (64, 256, 1024) ou original", example = "256")
+            @RequestParam(required = false) String size
+    ) {
+        return service.getCoverPresignedUrl(albumId, size);
+    }
+
+    @Operation(
+            summary = "Obter links pré-assinados de várias capas",
+            description = """
+                    Retorna, em uma única chamada, as URLs temporárias das capas dos álbuns informados.
+                    Álbuns sem capa não aparecem no resultado.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "URLs geradas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    @GetMapping("/covers")
+    public Map<Long, AlbumCoverService.PresignedUrlResponse> getCoverUrls(
+            @Parameter(description = "IDs dos álbuns (máximo 100)", example = "1,2,3")
+            @RequestParam List<Long> albumIds
     ) {
-        return service.getCoverPresignedUrl(albumId);
+        if (albumIds.size() > MAX_BATCH_ALBUM_IDS) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "albumIds must have at most " + MAX_BATCH_ALBUM_IDS + " items"
+            );
+        }
+        return service.getCoverPresignedUrls(albumIds);
     }
 }
@@ -0,0 +1,37 @@
+package com.joelmofraga.artists_albums_api.media.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum CoverSize {
+
+    ORIGINAL(0, "COVER"),
+    SMALL(64, "COVER_64"),
+    MEDIUM(256, "COVER_256"),
+    LARGE(1024, "COVER_1024");
+
+    private final int maxPixels;
+    private final String mediaType;
+
+    public static List<CoverSize> variants() {
+        return List.of(SMALL, MEDIUM, LARGE);
+    }
+
+    public static Optional<CoverSize> fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.of(ORIGINAL);
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(s -> s.name().equals(normalized)
+                        || (s != ORIGINAL && String.valueOf(s.maxPixels).equals(normalized)))
+                .findFirst();
+    }
+}
@@ -34,6 +34,9 @@ public class MediaObject {
     @Column(length = 64)
     private String etag;
 
+    @Column(columnDefinition = "text")
+    private String placeholder;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt = OffsetDateTime.now();
 }
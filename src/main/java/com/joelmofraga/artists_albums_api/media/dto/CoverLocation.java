@@ -0,0 +1,8 @@
+package com.joelmofraga.artists_albums_api.media.dto;
+
+public record CoverLocation(
+        Long albumId,
+        String bucket,
+        String objectKey,
+        String placeholder
+) {}
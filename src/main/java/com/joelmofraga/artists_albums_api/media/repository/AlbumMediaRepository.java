@@ -2,22 +2,26 @@ package com.joelmofraga.artists_albums_api.media.repository;
 
 import com.joelmofraga.artists_albums_api.media.domain.AlbumMedia;
 import com.joelmofraga.artists_albums_api.media.domain.AlbumMediaId;
+import com.joelmofraga.artists_albums_api.media.dto.CoverLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface AlbumMediaRepository extends JpaRepository<AlbumMedia, AlbumMediaId> {
 
     @Query("""
-        select am from AlbumMedia am
-        where am.id.albumId = :albumId
+        select new com.joelmofraga.artists_albums_api.media.dto.CoverLocation(am.id.albumId, m.bucket, m.objectKey, m.placeholder)
+        from AlbumMedia am
+        join am.media m
+        where am.id.albumId in :albumIds
           and am.mediaType = :mediaType
           and am.isPrimary = true
         order by am.createdAt desc
     """)
-    Optional<AlbumMedia> findFirstPrimaryByAlbumIdAndMediaType(Long albumId, String mediaType);
+    List<CoverLocation> findPrimaryCoverLocations(Collection<? extends Long> albumIds, String mediaType);
 
     @Modifying
     @Query("""
@@ -28,4 +32,13 @@ public interface AlbumMediaRepository extends JpaRepository<AlbumMedia, AlbumMed
           and am.isPrimary = true
     """)
     void clearPrimaryCover(Long albumId, String mediaType);
+
+    @Query("""
+        select count(am) > 0 from AlbumMedia am
+        where am.id.albumId = :albumId
+          and am.id.mediaId = :mediaId
+          and am.mediaType = :mediaType
+          and am.isPrimary = true
+    """)
+    boolean isPrimary(Long albumId, Long mediaId, String mediaType);
 }
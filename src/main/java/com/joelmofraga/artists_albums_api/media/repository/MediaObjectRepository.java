@@ -2,5 +2,22 @@ package com.joelmofraga.artists_albums_api.media.repository;
 
 import com.joelmofraga.artists_albums_api.media.domain.MediaObject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface MediaObjectRepository extends JpaRepository<MediaObject, Long> {}
+import java.util.Collection;
+import java.util.Set;
+
+public interface MediaObjectRepository extends JpaRepository<MediaObject, Long> {
+
+    @Query("""
+        select m.objectKey from MediaObject m
+        where m.bucket = :bucket
+          and m.objectKey in :keys
+    """)
+    Set<String> findExistingKeys(String bucket, Collection<String> keys);
+
+    @Modifying
+    @Query("update MediaObject m set m.placeholder = :placeholder where m.id = :id")
+    int updatePlaceholder(Long id, String placeholder);
+}
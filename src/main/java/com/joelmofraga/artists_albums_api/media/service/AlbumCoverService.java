@@ -1,22 +1,27 @@
 package com.joelmofraga.artists_albums_api.media.service;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
 import com.joelmofraga.artists_albums_api.media.domain.AlbumMedia;
 import com.joelmofraga.artists_albums_api.media.domain.AlbumMediaId;
+import com.joelmofraga.artists_albums_api.media.domain.CoverSize;
 import com.joelmofraga.artists_albums_api.media.domain.MediaObject;
 import com.joelmofraga.artists_albums_api.media.dto.AlbumCoverUploadResponse;
+import com.joelmofraga.artists_albums_api.media.dto.CoverLocation;
 import com.joelmofraga.artists_albums_api.media.repository.AlbumMediaRepository;
 import com.joelmofraga.artists_albums_api.media.repository.MediaObjectRepository;
+import com.joelmofraga.artists_albums_api.media.service.CoverVariantService.CoverSource;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -26,26 +31,38 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import java.io.IOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AlbumCoverService {
 
-    private static final String MEDIA_TYPE_COVER = "COVER";
+    private static final String MEDIA_TYPE_COVER = CoverSize.ORIGINAL.getMediaType();
     private static final Duration PRESIGNED_EXPIRATION = Duration.ofMinutes(30);
 
-    private final S3Client s3;
+    private final S3AsyncClient s3;
     private final S3Presigner presigner;
 
     private final AlbumMediaRepository albumMediaRepository;
     private final MediaObjectRepository mediaObjectRepository;
     private final EntityManager entityManager;
+    private final AlbumRepository albumRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CoverUrlCache coverUrlCache;
+    private final CoverVariantService coverVariantService;
 
     @Value("${storage.s3.bucket}")
     private String bucket;
 
-    @Transactional
+    @Value("${storage.s3.cover.max-size-bytes:10485760}")
+    private long maxCoverSizeBytes;
+
     public AlbumCoverUploadResponse uploadCover(Long albumId, MultipartFile file) throws IOException {
         if (albumId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "albumId is required");
@@ -53,12 +70,15 @@ public class AlbumCoverService {
         if (file == null || file.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "file is required");
         }
+        if (file.getSize() > maxCoverSizeBytes) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONTENT_TOO_LARGE,
+                    "file exceeds max size of " + maxCoverSizeBytes + " bytes"
+            );
+        }
 
-        if (!entityManager.contains(entityManager.getReference(Album.class, albumId))) {
-            Album albumCheck = entityManager.find(Album.class, albumId);
-            if (albumCheck == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Album not found: " + albumId);
-            }
+        if (!albumRepository.existsById(albumId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Album not found: " + albumId);
         }
 
         String contentType = file.getContentType();
@@ -69,87 +89,144 @@ public class AlbumCoverService {
         String ext = guessExt(contentType);
         String key = "albums/" + albumId + "/cover/" + System.currentTimeMillis() + ext;
 
-        s3.putObject(
+        S3Uploads.put(
+                s3,
                 PutObjectRequest.builder()
                         .bucket(bucket)
                         .key(key)
                         .contentType(contentType)
+                        .contentLength(file.getSize())
                         .build(),
-                RequestBody.fromBytes(file.getBytes())
+                file
         );
 
+        MediaObject media;
         try {
-            MediaObject media = new MediaObject();
-            media.setBucket(bucket);
-            media.setObjectKey(key);
-            media.setContentType(contentType);
-            media.setSizeBytes(file.getSize());
-            media.setCreatedAt(OffsetDateTime.now());
-            media = mediaObjectRepository.save(media);
-
-            albumMediaRepository.clearPrimaryCover(albumId, MEDIA_TYPE_COVER);
-
-            AlbumMedia link = new AlbumMedia();
-
-            Album albumRef = entityManager.getReference(Album.class, albumId);
-            MediaObject mediaRef = entityManager.getReference(MediaObject.class, media.getId());
-
-            link.setAlbum(albumRef);
-            link.setMedia(mediaRef);
-
-            link.setId(new AlbumMediaId(albumId, media.getId()));
-
-            link.setMediaType(MEDIA_TYPE_COVER);
-            link.setPrimary(true);
-            link.setCreatedAt(OffsetDateTime.now());
-            albumMediaRepository.save(link);
-
-            String url = generatePresignedGetUrl(bucket, key, PRESIGNED_EXPIRATION);
-            OffsetDateTime expiresAt = OffsetDateTime.now().plus(PRESIGNED_EXPIRATION);
-
-            return new AlbumCoverUploadResponse(
-                    albumId,
-                    media.getId(),
-                    bucket,
-                    key,
-                    contentType,
-                    file.getSize(),
-                    url,
-                    expiresAt
-            );
+            String storedContentType = contentType;
+            media = transactionTemplate.execute(status ->
+                    persistCover(albumId, key, storedContentType, file.getSize()));
         } catch (RuntimeException ex) {
-            try {
-                s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
-            } catch (Exception ignored) { }
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build())
+                    .whenComplete((r, deleteEx) -> {
+                        if (deleteEx != null) {
+                            log.warn("Could not delete uploaded cover {}; left for orphan sweeper", key, deleteEx);
+                        }
+                    });
             throw ex;
         }
+
+        OffsetDateTime expiresAt = OffsetDateTime.now().plus(PRESIGNED_EXPIRATION);
+        String url = generatePresignedGetUrl(bucket, key, PRESIGNED_EXPIRATION);
+        coverUrlCache.put(MEDIA_TYPE_COVER, albumId, new PresignedUrlResponse(url, expiresAt, null));
+        for (CoverSize size : CoverSize.variants()) {
+            coverUrlCache.evict(size.getMediaType(), albumId);
+        }
+        coverVariantService.schedule(new CoverSource(albumId, media.getId(), bucket, key));
+
+        return new AlbumCoverUploadResponse(
+                albumId,
+                media.getId(),
+                bucket,
+                key,
+                contentType,
+                file.getSize(),
+                url,
+                expiresAt
+        );
+    }
+
+    private MediaObject persistCover(Long albumId, String key, String contentType, long sizeBytes) {
+        Album album = albumRepository.findByIdForUpdate(albumId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Album not found: " + albumId));
+
+        MediaObject media = new MediaObject();
+        media.setBucket(bucket);
+        media.setObjectKey(key);
+        media.setContentType(contentType);
+        media.setSizeBytes(sizeBytes);
+        media.setCreatedAt(OffsetDateTime.now());
+        media = mediaObjectRepository.save(media);
+
+        albumMediaRepository.clearPrimaryCover(albumId, MEDIA_TYPE_COVER);
+        for (CoverSize size : CoverSize.variants()) {
+            albumMediaRepository.clearPrimaryCover(albumId, size.getMediaType());
+        }
+
+        AlbumMedia link = new AlbumMedia();
+
+        MediaObject mediaRef = entityManager.getReference(MediaObject.class, media.getId());
+
+        link.setAlbum(album);
+        link.setMedia(mediaRef);
+
+        link.setId(new AlbumMediaId(albumId, media.getId()));
+
+        link.setMediaType(MEDIA_TYPE_COVER);
+        link.setPrimary(true);
+        link.setCreatedAt(OffsetDateTime.now());
+        albumMediaRepository.save(link);
+
+        return media;
     }
 
-    @Transactional(readOnly = true)
     public PresignedUrlResponse getCoverPresignedUrl(Long albumId) {
+        return getCoverPresignedUrl(albumId, CoverSize.ORIGINAL);
+    }
+
+    public PresignedUrlResponse getCoverPresignedUrl(Long albumId, String size) {
+        CoverSize coverSize = CoverSize.fromParam(size)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "size must be one of original, 64, 256, 1024"
+                ));
+        return getCoverPresignedUrl(albumId, coverSize);
+    }
+
+    public PresignedUrlResponse getCoverPresignedUrl(Long albumId, CoverSize size) {
         if (albumId == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "albumId is required");
         }
 
-        AlbumMedia cover = albumMediaRepository
-                .findFirstPrimaryByAlbumIdAndMediaType(albumId, MEDIA_TYPE_COVER)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Cover not found for album: " + albumId
-                ));
+        PresignedUrlResponse url = null;
+        if (size != CoverSize.ORIGINAL) {
+            url = signedCover(size.getMediaType(), albumId);
+        }
+        if (url == null) {
+            url = signedCover(MEDIA_TYPE_COVER, albumId);
+        }
+        if (url == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Cover not found for album: " + albumId);
+        }
+        return url;
+    }
 
-        Long mediaId = Objects.requireNonNull(cover.getId(), "AlbumMedia.id is null").getMediaId();
+    public Map<Long, PresignedUrlResponse> getCoverPresignedUrls(Collection<Long> albumIds) {
+        if (albumIds == null || albumIds.isEmpty()) {
+            return Map.of();
+        }
+        if (albumIds.stream().anyMatch(Objects::isNull)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "albumIds must not contain null");
+        }
 
-        MediaObject media = mediaObjectRepository.findById(mediaId)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND,
-                        "Media not found: " + mediaId
-                ));
+        return coverUrlCache.getAll(MEDIA_TYPE_COVER, albumIds, ids -> signCovers(ids, MEDIA_TYPE_COVER));
+    }
 
-        String url = generatePresignedGetUrl(media.getBucket(), media.getObjectKey(), PRESIGNED_EXPIRATION);
-        OffsetDateTime expiresAt = OffsetDateTime.now().plus(PRESIGNED_EXPIRATION);
+    private PresignedUrlResponse signedCover(String mediaType, Long albumId) {
+        return coverUrlCache.getAll(mediaType, List.of(albumId), ids -> signCovers(ids, mediaType)).get(albumId);
+    }
 
-        return new PresignedUrlResponse(url, expiresAt);
+    private Map<Long, PresignedUrlResponse> signCovers(Set<? extends Long> albumIds, String mediaType) {
+        OffsetDateTime expiresAt = OffsetDateTime.now().plus(PRESIGNED_EXPIRATION);
+        Map<Long, PresignedUrlResponse> urls = new HashMap<>();
+
+        for (CoverLocation cover : albumMediaRepository.findPrimaryCoverLocations(albumIds, mediaType)) {
+            urls.computeIfAbsent(cover.albumId(), id -> new PresignedUrlResponse(
+                    generatePresignedGetUrl(cover.bucket(), cover.objectKey(), PRESIGNED_EXPIRATION),
+                    expiresAt,
+                    cover.placeholder()
+            ));
+        }
+        return urls;
     }
 
     private String generatePresignedGetUrl(String bucket, String key, Duration expiration) {
@@ -175,5 +252,9 @@ public class AlbumCoverService {
         };
     }
 
-    public record PresignedUrlResponse(String url, OffsetDateTime expiresAt) {}
+    public record PresignedUrlResponse(
+            String url,
+            OffsetDateTime expiresAt,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String placeholder
+    ) {}
 }
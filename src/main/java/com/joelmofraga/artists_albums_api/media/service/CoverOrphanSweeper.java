@@ -0,0 +1,93 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import com.joelmofraga.artists_albums_api.media.repository.MediaObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.s3.orphan-sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class CoverOrphanSweeper {
+
+    private static final String PREFIX = "albums/";
+    private static final int BATCH_SIZE = 500;
+
+    private final S3Client s3;
+    private final MediaObjectRepository mediaObjectRepository;
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.orphan-sweep.grace-minutes:60}")
+    private long graceMinutes;
+
+    @Scheduled(
+            fixedDelayString = "${storage.s3.orphan-sweep.interval-ms:3600000}",
+            initialDelayString = "${storage.s3.orphan-sweep.interval-ms:3600000}"
+    )
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(graceMinutes));
+        List<String> candidates = new ArrayList<>(BATCH_SIZE);
+        int deleted = 0;
+
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(PREFIX)
+                .build();
+
+        for (S3Object object : s3.listObjectsV2Paginator(request).contents()) {
+            if (object.lastModified() == null || !object.lastModified().isBefore(cutoff)) {
+                continue;
+            }
+            candidates.add(object.key());
+            if (candidates.size() == BATCH_SIZE) {
+                deleted += deleteOrphans(candidates);
+                candidates.clear();
+            }
+        }
+        if (!candidates.isEmpty()) {
+            deleted += deleteOrphans(candidates);
+        }
+
+        if (deleted > 0) {
+            log.info("Cover orphan sweep removed {} objects from {}", deleted, bucket);
+        }
+    }
+
+    int deleteOrphans(List<String> keys) {
+        Set<String> referenced = mediaObjectRepository.findExistingKeys(bucket, keys);
+
+        List<ObjectIdentifier> orphans = keys.stream()
+                .filter(k -> !referenced.contains(k))
+                .map(k -> ObjectIdentifier.builder().key(k).build())
+                .toList();
+
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+
+        s3.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(orphans).quiet(true).build())
+                .build());
+
+        return orphans.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.joelmofraga.artists_albums_api.media.service.AlbumCoverService.PresignedUrlResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class CoverUrlCache {
+
+    private final Cache<Key, PresignedUrlResponse> urls;
+
+    public CoverUrlCache(
+            MeterRegistry meterRegistry,
+            @Value("${storage.s3.cover-url-cache.safety-margin-seconds:300}") long safetyMarginSeconds,
+            @Value("${storage.s3.cover-url-cache.max-size:10000}") long maxSize
+    ) {
+        Duration safetyMargin = Duration.ofSeconds(safetyMarginSeconds);
+
+        this.urls = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((Key key, PresignedUrlResponse url) -> {
+                    Duration remaining = Duration.between(OffsetDateTime.now(), url.expiresAt()).minus(safetyMargin);
+                    return remaining.isNegative() ? Duration.ZERO : remaining;
+                }))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, urls, "media.cover.urls");
+    }
+
+    public Map<Long, PresignedUrlResponse> getAll(
+            String mediaType,
+            Collection<Long> albumIds,
+            Function<Set<? extends Long>, Map<Long, PresignedUrlResponse>> loader
+    ) {
+        Set<Key> keys = albumIds.stream()
+                .map(albumId -> new Key(mediaType, albumId))
+                .collect(Collectors.toSet());
+
+        Map<Key, PresignedUrlResponse> cached = urls.getAll(keys, missing -> {
+            Set<Long> missingIds = missing.stream().map(Key::albumId).collect(Collectors.toSet());
+            Map<Key, PresignedUrlResponse> loaded = new HashMap<>();
+            loader.apply(missingIds).forEach((albumId, url) -> loaded.put(new Key(mediaType, albumId), url));
+            return loaded;
+        });
+
+        Map<Long, PresignedUrlResponse> result = new HashMap<>();
+        cached.forEach((key, url) -> result.put(key.albumId(), url));
+        return result;
+    }
+
+    public void put(String mediaType, Long albumId, PresignedUrlResponse url) {
+        urls.put(new Key(mediaType, albumId), url);
+    }
+
+    public void evict(String mediaType, Long albumId) {
+        urls.invalidate(new Key(mediaType, albumId));
+    }
+
+    private record Key(String mediaType, Long albumId) {}
+}
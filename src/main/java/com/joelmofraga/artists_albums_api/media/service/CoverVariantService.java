@@ -0,0 +1,310 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.media.domain.AlbumMedia;
+import com.joelmofraga.artists_albums_api.media.domain.AlbumMediaId;
+import com.joelmofraga.artists_albums_api.media.domain.CoverSize;
+import com.joelmofraga.artists_albums_api.media.domain.MediaObject;
+import com.joelmofraga.artists_albums_api.media.repository.AlbumMediaRepository;
+import com.joelmofraga.artists_albums_api.media.repository.MediaObjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class CoverVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    private static final float VARIANT_QUALITY = 0.85f;
+    private static final int PLACEHOLDER_MAX_PIXELS = 16;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+
+    private final S3Client s3;
+    private final AlbumMediaRepository albumMediaRepository;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final AlbumRepository albumRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final CoverUrlCache coverUrlCache;
+    private final long maxSourcePixels;
+    private final ThreadPoolExecutor executor;
+    private final Timer generationTimer;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public CoverVariantService(
+            S3Client s3,
+            AlbumMediaRepository albumMediaRepository,
+            MediaObjectRepository mediaObjectRepository,
+            AlbumRepository albumRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            CoverUrlCache coverUrlCache,
+            MeterRegistry meterRegistry,
+            @Value("${storage.s3.cover-variants.workers:2}") int workers,
+            @Value("${storage.s3.cover-variants.queue-capacity:100}") int queueCapacity,
+            @Value("${storage.s3.cover-variants.max-source-pixels:40000000}") long maxSourcePixels
+    ) {
+        this.s3 = s3;
+        this.albumMediaRepository = albumMediaRepository;
+        this.mediaObjectRepository = mediaObjectRepository;
+        this.albumRepository = albumRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.coverUrlCache = coverUrlCache;
+        this.maxSourcePixels = maxSourcePixels;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "cover-variants-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(executor, "media.cover.variants", List.of()).bindTo(meterRegistry);
+        this.generationTimer = Timer.builder("media.cover.variants.generation").register(meterRegistry);
+        this.rejected = Counter.builder("media.cover.variants.rejected").register(meterRegistry);
+        this.failed = Counter.builder("media.cover.variants.failed").register(meterRegistry);
+    }
+
+    public void schedule(CoverSource source) {
+        try {
+            executor.execute(() -> generationTimer.record(() -> generate(source)));
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Cover variant queue full; album {} will be served from the original until re-upload",
+                    source.albumId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    void generate(CoverSource source) {
+        BufferedImage original;
+        try (InputStream in = s3.getObject(GetObjectRequest.builder()
+                .bucket(source.bucket())
+                .key(source.objectKey())
+                .build())) {
+            original = decode(in);
+        } catch (IOException | SdkException ex) {
+            failed.increment();
+            log.warn("Could not read cover {} to generate variants", source.objectKey(), ex);
+            return;
+        }
+        if (original == null) {
+            log.info("No image reader for cover {}; variants not generated", source.objectKey());
+            return;
+        }
+
+        List<StoredVariant> stored = new ArrayList<>();
+        try {
+            BufferedImage current = original;
+            for (CoverSize size : CoverSize.variants().reversed()) {
+                current = resize(current, size.getMaxPixels());
+                byte[] jpeg = encodeJpeg(current, VARIANT_QUALITY);
+                String key = variantKey(source.objectKey(), size);
+                s3.putObject(
+                        PutObjectRequest.builder()
+                                .bucket(source.bucket())
+                                .key(key)
+                                .contentType(VARIANT_CONTENT_TYPE)
+                                .contentLength((long) jpeg.length)
+                                .build(),
+                        RequestBody.fromBytes(jpeg)
+                );
+                stored.add(new StoredVariant(size, key, jpeg.length));
+            }
+
+            String placeholder = "data:" + VARIANT_CONTENT_TYPE + ";base64," + Base64.getEncoder().encodeToString(
+                    encodeJpeg(resize(current, PLACEHOLDER_MAX_PIXELS), PLACEHOLDER_QUALITY));
+
+            Boolean persisted = transactionTemplate.execute(status -> persistVariants(source, stored, placeholder));
+            if (!Boolean.TRUE.equals(persisted)) {
+                log.info("Cover {} is no longer primary for album {}; discarding variants",
+                        source.objectKey(), source.albumId());
+                deleteQuietly(source.bucket(), stored);
+                return;
+            }
+        } catch (IOException | RuntimeException ex) {
+            failed.increment();
+            log.warn("Could not generate variants for cover {}", source.objectKey(), ex);
+            deleteQuietly(source.bucket(), stored);
+            return;
+        }
+
+        for (CoverSize size : CoverSize.values()) {
+            coverUrlCache.evict(size.getMediaType(), source.albumId());
+        }
+    }
+
+    private boolean persistVariants(CoverSource source, List<StoredVariant> stored, String placeholder) {
+        String originalType = CoverSize.ORIGINAL.getMediaType();
+        Album album = albumRepository.findByIdForUpdate(source.albumId()).orElse(null);
+        if (album == null || !albumMediaRepository.isPrimary(source.albumId(), source.mediaId(), originalType)) {
+            return false;
+        }
+
+        mediaObjectRepository.updatePlaceholder(source.mediaId(), placeholder);
+
+        for (StoredVariant variant : stored) {
+            MediaObject media = new MediaObject();
+            media.setBucket(source.bucket());
+            media.setObjectKey(variant.objectKey());
+            media.setContentType(VARIANT_CONTENT_TYPE);
+            media.setSizeBytes(variant.sizeBytes());
+            media.setPlaceholder(placeholder);
+            media.setCreatedAt(OffsetDateTime.now());
+            media = mediaObjectRepository.save(media);
+
+            String mediaType = variant.size().getMediaType();
+            albumMediaRepository.clearPrimaryCover(source.albumId(), mediaType);
+
+            AlbumMedia link = new AlbumMedia();
+            link.setAlbum(album);
+            link.setMedia(entityManager.getReference(MediaObject.class, media.getId()));
+            link.setId(new AlbumMediaId(source.albumId(), media.getId()));
+            link.setMediaType(mediaType);
+            link.setPrimary(true);
+            link.setCreatedAt(OffsetDateTime.now());
+            albumMediaRepository.save(link);
+        }
+        return true;
+    }
+
+    private void deleteQuietly(String bucket, List<StoredVariant> stored) {
+        for (StoredVariant variant : stored) {
+            try {
+                s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(variant.objectKey()).build());
+            } catch (SdkException ex) {
+                log.warn("Could not delete cover variant {}; left for orphan sweeper", variant.objectKey(), ex);
+            }
+        }
+    }
+
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream images = ImageIO.createImageInputStream(in)) {
+            if (images == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(images);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(images, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxSourcePixels) {
+                    throw new IOException("cover has " + pixels + " pixels, above limit of " + maxSourcePixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static BufferedImage resize(BufferedImage source, int maxPixels) {
+        double scale = Math.min(1.0, (double) maxPixels / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        do {
+            current = draw(current,
+                    Math.max(width, current.getWidth() / 2),
+                    Math.max(height, current.getHeight() / 2));
+        } while (current.getWidth() != width || current.getHeight() != height);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream images = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(images);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    static String variantKey(String originalKey, CoverSize size) {
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > originalKey.lastIndexOf('/') ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + size.getMaxPixels() + ".jpg";
+    }
+
+    public record CoverSource(Long albumId, Long mediaId, String bucket, String objectKey) {}
+
+    private record StoredVariant(CoverSize size, String objectKey, long sizeBytes) {}
+}
@@ -4,8 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
@@ -15,32 +14,34 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class ImageStorageService {
 
-    private final S3Client s3;
+    private final S3AsyncClient s3;
 
     @Value("${storage.s3.bucket:album-covers}")
     private String bucket;
 
     public StoredObject upload(String key, MultipartFile file) throws IOException {
 
-        s3.putObject(
+        S3Uploads.put(
+                s3,
                 PutObjectRequest.builder()
                         .bucket(bucket)
                         .key(key)
                         .contentType(file.getContentType())
+                        .contentLength(file.getSize())
                         .build(),
-                RequestBody.fromInputStream(file.getInputStream(), file.getSize())
+                file
         );
 
         return new StoredObject(bucket, key, file.getContentType(), file.getSize());
     }
 
     public void delete(String key) {
-        s3.deleteObject(
+        S3Uploads.join(s3.deleteObject(
                 DeleteObjectRequest.builder()
                         .bucket(bucket)
                         .key(key)
                         .build()
-        );
+        ));
     }
 
     public record StoredObject(String bucket, String key, String contentType, long sizeBytes) {}
@@ -0,0 +1,39 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+final class S3Uploads {
+
+    private S3Uploads() {}
+
+    static PutObjectResponse put(S3AsyncClient s3, PutObjectRequest request, MultipartFile file) throws IOException {
+        Path spooled = Files.createTempFile("s3-upload-", ".part");
+        try {
+            file.transferTo(spooled.toFile());
+            return join(s3.putObject(request, AsyncRequestBody.fromFile(spooled)));
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
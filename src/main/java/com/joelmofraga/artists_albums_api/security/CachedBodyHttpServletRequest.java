@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 
@@ -15,15 +16,39 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
     private final byte[] cachedBody;
 
-    public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+    private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] cachedBody) {
         super(request);
-        this.cachedBody = request.getInputStream().readAllBytes();
+        this.cachedBody = cachedBody;
+    }
+
+    public static CachedBodyHttpServletRequest capture(HttpServletRequest request, int maxBytes) throws IOException {
+        long declared = request.getContentLengthLong();
+        if (declared > maxBytes) {
+            return null;
+        }
+
+        InputStream in = request.getInputStream();
+        byte[] body = in.readNBytes(maxBytes + 1);
+        if (body.length > maxBytes) {
+            return null;
+        }
+        return new CachedBodyHttpServletRequest(request, body);
     }
 
     public byte[] getCachedBody() {
         return cachedBody;
     }
 
+    @Override
+    public int getContentLength() {
+        return cachedBody.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return cachedBody.length;
+    }
+
     @Override
     public ServletInputStream getInputStream() {
         ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(cachedBody);
@@ -34,6 +59,16 @@ public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
                 return byteArrayInputStream.read();
             }
 
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return byteArrayInputStream.read(b, off, len);
+            }
+
+            @Override
+            public int available() {
+                return byteArrayInputStream.available();
+            }
+
             @Override
             public boolean isFinished() {
                 return byteArrayInputStream.available() == 0;
@@ -1,6 +1,7 @@
 package com.joelmofraga.artists_albums_api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +17,7 @@ import java.util.Date;
 public class JwtService {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationMinutes;
 
     public JwtService(
@@ -23,6 +25,7 @@ public class JwtService {
             @Value("${app.security.jwt.expiration-minutes}") long expirationMinutes
     ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationMinutes = expirationMinutes;
     }
 
@@ -38,25 +41,23 @@ public class JwtService {
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return parseClaims(token).getSubject();
+    public Claims validate(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public boolean isTokenValid(String token, UserDetails user) {
-        String username = extractUsername(token);
-        return username.equals(user.getUsername()) && !isTokenExpired(token);
+    public String extractUsername(String token) {
+        return validate(token).getSubject();
     }
 
-    private boolean isTokenExpired(String token) {
-        Date exp = parseClaims(token).getExpiration();
-        return exp.before(new Date());
+    public boolean isTokenValid(String token, UserDetails user) {
+        return isTokenValid(validate(token), user);
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isTokenValid(Claims claims, UserDetails user) {
+        String username = claims.getSubject();
+        return username != null
+                && username.equals(user.getUsername())
+                && claims.getExpiration() != null
+                && claims.getExpiration().after(new Date());
     }
 }
@@ -0,0 +1,40 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimiter implements RateLimiter {
+
+    private final RateLimitStore store;
+
+    public LocalRateLimiter(RateLimitStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String namespace, String key, int limit, Duration window) {
+        Bucket bucket = store.resolve(namespace, key, () -> newBucket(limit, window));
+
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            return RateLimitDecision.allowed(probe.getRemainingTokens());
+        }
+        return RateLimitDecision.rejected(
+                TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill() + TimeUnit.SECONDS.toNanos(1) - 1)
+        );
+    }
+
+    private Bucket newBucket(int limit, Duration window) {
+        Bandwidth bandwidth = Bandwidth.classic(limit, Refill.intervally(limit, window));
+        return Bucket.builder().addLimit(bandwidth).build();
+    }
+}
@@ -1,15 +1,17 @@
 package com.joelmofraga.artists_albums_api.security;
 
-import tools.jackson.databind.JsonNode;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import tools.jackson.databind.json.JsonMapper;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,21 +19,33 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class LoginRateLimitFilter extends OncePerRequestFilter {
 
     private static final int LIMIT = 10;
     private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final String NAMESPACE = "login";
 
     private final JsonMapper jsonMapper;
     private final String loginPath;
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-
-    public LoginRateLimitFilter(JsonMapper jsonMapper, String loginPath) {
+    private final RateLimiter rateLimiter;
+    private final int maxBodyBytes;
+    private final Counter rejections;
+    private final Counter oversized;
+
+    public LoginRateLimitFilter(
+            JsonMapper jsonMapper,
+            String loginPath,
+            RateLimiter rateLimiter,
+            int maxBodyBytes,
+            MeterRegistry meterRegistry
+    ) {
         this.jsonMapper = jsonMapper;
         this.loginPath = loginPath;
+        this.rateLimiter = rateLimiter;
+        this.maxBodyBytes = maxBodyBytes;
+        this.rejections = meterRegistry.counter("rate.limit.rejections", "filter", NAMESPACE, "policy", NAMESPACE);
+        this.oversized = meterRegistry.counter("rate.limit.login.oversized");
     }
 
     @Override
@@ -46,22 +60,34 @@ public class LoginRateLimitFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        CachedBodyHttpServletRequest wrapped = new CachedBodyHttpServletRequest(request);
+        CachedBodyHttpServletRequest wrapped = CachedBodyHttpServletRequest.capture(request, maxBodyBytes);
+        if (wrapped == null) {
+            oversized.increment();
+            response.setStatus(HttpStatus.CONTENT_TOO_LARGE.value());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("""
+                    {
+                      "error": "payload_too_large",
+                      "message": "Corpo da requisição de login excede o tamanho máximo."
+                    }
+                    """);
+            return;
+        }
 
         String username = extractUsername(wrapped);
         String ip = resolveClientIp(wrapped);
 
         String key = StringUtils.hasText(username)
-                ? "login:user:" + username.trim().toLowerCase()
-                : "login:ip:" + ip;
+                ? "user:" + username.trim().toLowerCase()
+                : "ip:" + ip;
 
-        Bucket bucket = buckets.computeIfAbsent(key, k -> newBucket());
-
-        if (bucket.tryConsume(1)) {
+        if (rateLimiter.tryConsume(NAMESPACE, key, LIMIT, WINDOW).allowed()) {
             filterChain.doFilter(wrapped, response);
             return;
         }
 
+        rejections.increment();
         response.setStatus(429);
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -73,28 +99,31 @@ public class LoginRateLimitFilter extends OncePerRequestFilter {
                 """);
     }
 
-    private Bucket newBucket() {
-        Bandwidth limit = Bandwidth.classic(LIMIT, Refill.intervally(LIMIT, WINDOW));
-        return Bucket.builder().addLimit(limit).build();
-    }
-
     private boolean pathMatches(HttpServletRequest request, String expectedPath) {
         String uri = request.getRequestURI();
         return uri != null && uri.equals(expectedPath);
     }
 
     private String extractUsername(CachedBodyHttpServletRequest request) {
-        try {
-            byte[] body = request.getCachedBody();
-            if (body == null || body.length == 0) return null;
+        byte[] body = request.getCachedBody();
+        if (body.length == 0) return null;
+
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
 
-            JsonNode node = jsonMapper.readTree(body);
-            JsonNode usernameNode = node.get("username");
-            if (usernameNode == null || usernameNode.isNull()) return null;
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
 
-            String username = usernameNode.asText();
-            return StringUtils.hasText(username) ? username : null;
-        } catch (Exception ignored) {
+                if ("username".equals(field)) {
+                    if (value != JsonToken.VALUE_STRING) return null;
+                    String username = parser.getString();
+                    return StringUtils.hasText(username) ? username : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (JacksonException ignored) {
             return null;
         }
     }
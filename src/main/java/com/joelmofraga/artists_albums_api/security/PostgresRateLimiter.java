@@ -0,0 +1,141 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import com.joelmofraga.artists_albums_api.security.RateLimitWindowRepository.Reservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "postgres")
+public class PostgresRateLimiter implements RateLimiter {
+
+    private static final String FALLBACK_NAMESPACE_PREFIX = "fallback:";
+
+    private final RateLimitWindowRepository windows;
+    private final RateLimitStore store;
+    private final LocalRateLimiter fallback;
+    private final int batchSize;
+    private final int minBatch;
+    private final double batchShare;
+    private final long circuitOpenMillis;
+    private final Clock clock;
+    private volatile long circuitOpenUntil;
+
+    @Autowired
+    public PostgresRateLimiter(
+            RateLimitWindowRepository windows,
+            RateLimitStore store,
+            @Value("${app.rate-limit.postgres.batch-size:10}") int batchSize,
+            @Value("${app.rate-limit.postgres.min-batch:3}") int minBatch,
+            @Value("${app.rate-limit.postgres.batch-share:0.25}") double batchShare,
+            @Value("${app.rate-limit.postgres.circuit-open-ms:30000}") long circuitOpenMillis
+    ) {
+        this(windows, store, batchSize, minBatch, batchShare, circuitOpenMillis, Clock.systemUTC());
+    }
+
+    PostgresRateLimiter(
+            RateLimitWindowRepository windows,
+            RateLimitStore store,
+            int batchSize,
+            int minBatch,
+            double batchShare,
+            long circuitOpenMillis,
+            Clock clock
+    ) {
+        this.windows = windows;
+        this.store = store;
+        this.fallback = new LocalRateLimiter(store);
+        this.batchSize = batchSize;
+        this.minBatch = minBatch;
+        this.batchShare = batchShare;
+        this.circuitOpenMillis = circuitOpenMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(String namespace, String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        long now = clock.millis();
+        if (now < circuitOpenUntil) {
+            return fallback.tryConsume(FALLBACK_NAMESPACE_PREFIX + namespace, key, limit, window);
+        }
+
+        long windowStart = now - Math.floorMod(now, windowMillis);
+        long windowEnd = windowStart + windowMillis;
+
+        LocalAllowance allowance = store.resolve(namespace, key, LocalAllowance::new);
+
+        allowance.lock.lock();
+        try {
+            if (allowance.windowStart != windowStart) {
+                allowance.windowStart = windowStart;
+                allowance.remaining = 0;
+                allowance.globalUsed = 0;
+                allowance.exhausted = false;
+            }
+
+            if (allowance.remaining == 0 && !allowance.exhausted) {
+                int batch = batchFor(limit);
+                try {
+                    Reservation reservation = windows.reserve(
+                            namespace + ':' + key,
+                            Instant.ofEpochMilli(windowStart),
+                            Instant.ofEpochMilli(windowEnd),
+                            batch,
+                            limit
+                    );
+                    allowance.remaining = reservation.granted();
+                    allowance.globalUsed = reservation.used();
+                    allowance.exhausted = reservation.granted() == 0;
+                } catch (DataAccessException ex) {
+                    circuitOpenUntil = clock.millis() + circuitOpenMillis;
+                    log.warn("Rate limit backend unavailable, using per-instance limits for {} ms: {}",
+                            circuitOpenMillis, ex.getMostSpecificCause().getMessage());
+                    return fallback.tryConsume(FALLBACK_NAMESPACE_PREFIX + namespace, key, limit, window);
+                }
+            }
+
+            if (allowance.remaining > 0) {
+                allowance.remaining--;
+                return RateLimitDecision.allowed(Math.max(0, limit - allowance.globalUsed) + allowance.remaining);
+            }
+
+            return RateLimitDecision.rejected((windowEnd - now + 999) / 1000);
+        } finally {
+            allowance.lock.unlock();
+        }
+    }
+
+    int batchFor(int limit) {
+        int share = (int) Math.ceil(limit * batchShare);
+        return Math.max(1, Math.min(limit, Math.max(minBatch, Math.min(batchSize, share))));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.postgres.cleanup-ms:600000}")
+    public void deleteExpiredWindows() {
+        try {
+            int deleted = windows.deleteExpired(clock.instant());
+            log.debug("Removed {} expired rate limit windows", deleted);
+        } catch (DataAccessException ex) {
+            log.warn("Could not remove expired rate limit windows: {}", ex.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private static final class LocalAllowance {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long windowStart = -1;
+        private int remaining;
+        private int globalUsed;
+        private boolean exhausted;
+    }
+}
@@ -0,0 +1,76 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PrincipalCache {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> principals;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(
+            UserDetailsService userDetailsService,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.security.principal-cache.max-size:10000}") long maxSize
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth.principals");
+    }
+
+    public UserDetails load(String username) {
+        UserDetails cached = principals.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observed = generation.get();
+        UserDetails loaded = snapshot(username);
+        if (generation.get() == observed) {
+            principals.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String username) {
+        generation.incrementAndGet();
+        principals.invalidate(username);
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        principals.invalidateAll();
+    }
+
+    private UserDetails snapshot(String username) {
+        UserDetails user = userDetailsService.loadUserByUsername(username);
+
+        return User.withUsername(user.getUsername())
+                .password("")
+                .disabled(!user.isEnabled())
+                .accountExpired(!user.isAccountNonExpired())
+                .accountLocked(!user.isAccountNonLocked())
+                .credentialsExpired(!user.isCredentialsNonExpired())
+                .authorities(List.copyOf(user.getAuthorities()))
+                .build();
+    }
+}
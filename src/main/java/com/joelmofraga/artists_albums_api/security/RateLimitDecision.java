@@ -0,0 +1,16 @@
+package com.joelmofraga.artists_albums_api.security;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long remaining,
+        long retryAfterSeconds
+) {
+
+    public static RateLimitDecision allowed(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision rejected(long retryAfterSeconds) {
+        return new RateLimitDecision(false, 0, Math.max(1, retryAfterSeconds));
+    }
+}
@@ -1,70 +0,0 @@
-package com.joelmofraga.artists_albums_api.security;
-
-import io.github.bucket4j.*;
-import jakarta.servlet.*;
-import jakarta.servlet.http.*;
-import org.springframework.http.HttpStatus;
-import org.springframework.security.core.*;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@Component
-public class RateLimitFilter extends OncePerRequestFilter {
-
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
-
-    private Bucket newBucket() {
-        Refill refill = Refill.greedy(10, Duration.ofMinutes(1));
-        Bandwidth limit = Bandwidth.classic(10, refill);
-        return Bucket.builder().addLimit(limit).build();
-    }
-
-    private Bucket resolveBucket(String key) {
-        return buckets.computeIfAbsent(key, k -> newBucket());
-    }
-
-    private String resolveKey(HttpServletRequest request) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated()
-                && auth.getName() != null
-                && !"anonymousUser".equals(auth.getName())) {
-            return "user:" + auth.getName();
-        }
-        return "ip:" + request.getRemoteAddr();
-    }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return path.startsWith("/actuator")
-                || path.startsWith("/swagger-ui")
-                || path.startsWith("/v3/api-docs")
-                || path.startsWith("/api/v1/auth");
-    }
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain) throws ServletException, IOException {
-
-
-        String key = resolveKey(request);
-        Bucket bucket = resolveBucket(key);
-
-        if (bucket.tryConsume(1)) {
-            response.setHeader("X-RateLimit-Limit", "10");
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-        response.setContentType("application/json");
-        response.getWriter().write("{\"error\":\"Too Many Requests\"}");
-    }
-}
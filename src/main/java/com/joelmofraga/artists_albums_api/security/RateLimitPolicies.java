@@ -0,0 +1,108 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class RateLimitPolicies {
+
+    private final RateLimitPolicy defaultPolicy;
+    private final Map<String, CompiledRule[]> rulesByMethod;
+    private final CompiledRule[] anyMethodRules;
+
+    public RateLimitPolicies(RateLimitPolicyProperties properties) {
+        RateLimitPolicyProperties.Limit defaults = properties.defaultPolicy();
+        this.defaultPolicy = RateLimitPolicy.of("default", defaults.limit(), defaults.window());
+
+        PathPatternParser parser = new PathPatternParser();
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (int i = 0; i < properties.policies().size(); i++) {
+            compiled.add(compile(parser, properties.policies().get(i), i));
+        }
+
+        this.anyMethodRules = compiled.stream()
+                .filter(r -> r.methods().isEmpty())
+                .toArray(CompiledRule[]::new);
+
+        Map<String, CompiledRule[]> byMethod = new HashMap<>();
+        Set<String> methods = compiled.stream()
+                .flatMap(r -> r.methods().stream())
+                .collect(Collectors.toSet());
+        for (String method : methods) {
+            byMethod.put(method, compiled.stream()
+                    .filter(r -> r.methods().isEmpty() || r.methods().contains(method))
+                    .toArray(CompiledRule[]::new));
+        }
+        this.rulesByMethod = Map.copyOf(byMethod);
+    }
+
+    public RateLimitPolicy resolve(HttpServletRequest request, Authentication auth) {
+        CompiledRule[] rules = rulesByMethod.getOrDefault(request.getMethod(), anyMethodRules);
+        if (rules.length == 0) {
+            return defaultPolicy;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        Collection<? extends GrantedAuthority> authorities = auth != null ? auth.getAuthorities() : List.of();
+
+        for (CompiledRule rule : rules) {
+            if (rule.pattern().matches(path) && rule.appliesTo(authorities)) {
+                return rule.policy();
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private CompiledRule compile(PathPatternParser parser, RateLimitPolicyProperties.Rule rule, int index) {
+        String name = StringUtils.hasText(rule.name()) ? rule.name() : "policy-" + index;
+        if (!StringUtils.hasText(rule.path())) {
+            throw new IllegalArgumentException("Rate limit policy '" + name + "' must define a path");
+        }
+
+        Set<String> methods = rule.methods().stream()
+                .filter(StringUtils::hasText)
+                .map(m -> m.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> authorities = rule.roles().stream()
+                .map(r -> r.trim().toUpperCase(Locale.ROOT))
+                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new CompiledRule(
+                parser.parse(rule.path()),
+                methods,
+                authorities,
+                RateLimitPolicy.of(name, rule.limit(), rule.window())
+        );
+    }
+
+    private record CompiledRule(PathPattern pattern, Set<String> methods, Set<String> authorities, RateLimitPolicy policy) {
+
+        boolean appliesTo(Collection<? extends GrantedAuthority> granted) {
+            if (authorities.isEmpty()) {
+                return true;
+            }
+            for (GrantedAuthority authority : granted) {
+                if (authorities.contains(authority.getAuthority())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
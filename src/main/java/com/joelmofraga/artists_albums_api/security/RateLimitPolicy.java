@@ -0,0 +1,16 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import java.time.Duration;
+
+public record RateLimitPolicy(String namespace, int limit, Duration window) {
+
+    public static RateLimitPolicy of(String name, int limit, Duration window) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Rate limit policy '" + name + "' must have a positive limit");
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("Rate limit policy '" + name + "' must have a positive window");
+        }
+        return new RateLimitPolicy(name + ":" + limit + "/" + window.toSeconds() + "s", limit, window);
+    }
+}
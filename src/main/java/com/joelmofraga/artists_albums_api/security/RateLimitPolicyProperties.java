@@ -0,0 +1,28 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitPolicyProperties(
+        @DefaultValue Limit defaultPolicy,
+        @DefaultValue List<Rule> policies
+) {
+
+    public record Limit(
+            @DefaultValue("10") int limit,
+            @DefaultValue("1m") Duration window
+    ) {}
+
+    public record Rule(
+            String name,
+            String path,
+            @DefaultValue List<String> methods,
+            @DefaultValue List<String> roles,
+            int limit,
+            Duration window
+    ) {}
+}
@@ -0,0 +1,55 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class RateLimitStore {
+
+    static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, Object> buckets;
+
+    public RateLimitStore(
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.store.max-memory-bytes:33554432}") long maxMemoryBytes,
+            @Value("${app.rate-limit.store.idle-expiry-seconds:600}") long idleExpirySeconds
+    ) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumWeight(maxMemoryBytes)
+                .weigher((String key, Object bucket) -> weigh(key))
+                .expireAfterAccess(Duration.ofSeconds(idleExpirySeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate.limit.buckets");
+        Gauge.builder("rate.limit.store.keys", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.store.bytes", buckets,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T resolve(String namespace, String key, Supplier<T> factory) {
+        return (T) buckets.get(namespace + ':' + key, k -> factory.get());
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    static int weigh(String key) {
+        return ENTRY_OVERHEAD_BYTES + key.length() * 2;
+    }
+}
@@ -0,0 +1,60 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Repository
+@ConditionalOnProperty(name = "app.rate-limit.backend", havingValue = "postgres")
+public class RateLimitWindowRepository {
+
+    private static final String RESERVE_SQL = """
+        insert into rate_limit_window (bucket_key, window_start, expires_at, used, last_grant)
+        values (?, ?, ?, ?, ?)
+        on conflict (bucket_key) do update set
+            last_grant = case
+                when rate_limit_window.window_start >= excluded.window_start
+                    then least(excluded.last_grant, greatest(? - rate_limit_window.used, 0))
+                else excluded.last_grant
+            end,
+            used = case
+                when rate_limit_window.window_start >= excluded.window_start
+                    then rate_limit_window.used + least(excluded.last_grant, greatest(? - rate_limit_window.used, 0))
+                else excluded.used
+            end,
+            window_start = greatest(rate_limit_window.window_start, excluded.window_start),
+            expires_at = greatest(rate_limit_window.expires_at, excluded.expires_at)
+        returning last_grant, used
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RateLimitWindowRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Reservation reserve(String bucketKey, Instant windowStart, Instant expiresAt, int batch, int limit) {
+        int firstGrant = Math.min(batch, limit);
+
+        return jdbcTemplate.queryForObject(
+                RESERVE_SQL,
+                (rs, rowNum) -> new Reservation(rs.getInt("last_grant"), rs.getInt("used")),
+                bucketKey,
+                Timestamp.from(windowStart),
+                Timestamp.from(expiresAt),
+                firstGrant,
+                firstGrant,
+                limit,
+                limit
+        );
+    }
+
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("delete from rate_limit_window where expires_at < ?", Timestamp.from(now));
+    }
+
+    public record Reservation(int granted, int used) {}
+}
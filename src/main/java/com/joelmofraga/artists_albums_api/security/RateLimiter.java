@@ -0,0 +1,8 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import java.time.Duration;
+
+public interface RateLimiter {
+
+    RateLimitDecision tryConsume(String namespace, String key, int limit, Duration window);
+}
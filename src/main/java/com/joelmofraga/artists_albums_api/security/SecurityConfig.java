@@ -1,16 +1,25 @@
 package com.joelmofraga.artists_albums_api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import tools.jackson.databind.json.JsonMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -19,8 +28,11 @@ import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitPolicyProperties.class)
 public class SecurityConfig {
 
+    private static final String METRICS_ROLE = "METRICS";
+
     private final JwtAuthenticationFilter jwtFilter;
     private final AuthEntryPoint authEntryPoint;
 
@@ -30,13 +42,65 @@ public class SecurityConfig {
     }
 
     @Bean
-    public LoginRateLimitFilter loginRateLimitFilter(JsonMapper jsonMapper) {
-        return new LoginRateLimitFilter(jsonMapper, AUTH + "/login");
+    public LoginRateLimitFilter loginRateLimitFilter(
+            JsonMapper jsonMapper,
+            RateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.login.max-body-bytes:4096}") int maxBodyBytes
+    ) {
+        return new LoginRateLimitFilter(jsonMapper, AUTH + "/login", rateLimiter, maxBodyBytes, meterRegistry);
+    }
+
+    @Bean
+    public UserRateLimitFilter userRateLimitFilter(
+            RateLimiter rateLimiter,
+            RateLimitPolicies policies,
+            MeterRegistry meterRegistry
+    ) {
+        return new UserRateLimitFilter(rateLimiter, policies, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<UserRateLimitFilter> userRateLimitFilterRegistration(UserRateLimitFilter filter) {
+        FilterRegistrationBean<UserRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoginRateLimitFilter> loginRateLimitFilterRegistration(LoginRateLimitFilter filter) {
+        FilterRegistrationBean<LoginRateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
-    public UserRateLimitFilter userRateLimitFilter() {
-        return new UserRateLimitFilter();
+    @Order(1)
+    public SecurityFilterChain metricsSecurityFilterChain(
+            HttpSecurity http,
+            PasswordEncoder passwordEncoder,
+            @Value("${app.metrics.scrape.username:prometheus}") String username,
+            @Value("${app.metrics.scrape.password:}") String password
+    ) throws Exception {
+
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            scrapeUsers.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(METRICS_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(scrapeUsers);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        return http
+                .securityMatcher("/actuator/prometheus", "/actuator/metrics/**", "/actuator/metrics")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(new ProviderManager(provider))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(METRICS_ROLE))
+                .httpBasic(withDefaults())
+                .build();
     }
 
     @Bean
@@ -1,13 +1,12 @@
 package com.joelmofraga.artists_albums_api.security;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -15,16 +14,29 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class UserRateLimitFilter extends OncePerRequestFilter {
 
-    private static final int LIMIT = 10;
-    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final String NAMESPACE = "api";
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimiter rateLimiter;
+    private final RateLimitPolicies policies;
+    private final MeterRegistry meterRegistry;
+
+    public UserRateLimitFilter(RateLimiter rateLimiter, RateLimitPolicies policies, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.policies = policies;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator")
+                || path.startsWith("/swagger-ui")
+                || path.startsWith("/v3/api-docs")
+                || path.startsWith("/api/v1/auth");
+    }
 
     @Override
     protected void doFilterInternal(
@@ -34,35 +46,37 @@ public class UserRateLimitFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = auth != null
+                && auth.isAuthenticated()
+                && !(auth instanceof AnonymousAuthenticationToken)
+                && StringUtils.hasText(auth.getName());
 
-        String username = (auth != null && auth.isAuthenticated() && StringUtils.hasText(auth.getName()))
-                ? auth.getName()
-                : null;
-
-        String key = (username != null)
-                ? "user:" + username
-                : "anon:ip:" + request.getRemoteAddr();
+        String key = authenticated
+                ? "user:" + auth.getName()
+                : "ip:" + request.getRemoteAddr();
 
-        Bucket bucket = buckets.computeIfAbsent(key, k -> newBucket());
+        RateLimitPolicy policy = policies.resolve(request, authenticated ? auth : null);
+        RateLimitDecision decision = rateLimiter.tryConsume(
+                NAMESPACE + ":" + policy.namespace(), key, policy.limit(), policy.window());
+        response.setHeader("X-RateLimit-Limit", String.valueOf(policy.limit()));
 
-        if (bucket.tryConsume(1)) {
+        if (decision.allowed()) {
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
             filterChain.doFilter(request, response);
             return;
         }
 
+        meterRegistry.counter("rate.limit.rejections", "filter", NAMESPACE, "policy", policy.namespace()).increment();
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
         response.setStatus(429);
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.getWriter().write("""
                 {
                   "error": "too_many_requests",
-                  "message": "Rate limit excedido: até 10 requisições por minuto por usuário."
+                  "message": "Rate limit excedido para este endpoint. Tente novamente mais tarde."
                 }
                 """);
     }
-
-    private Bucket newBucket() {
-        Bandwidth limit = Bandwidth.classic(LIMIT, Refill.intervally(LIMIT, WINDOW));
-        return Bucket.builder().addLimit(limit).build();
-    }
 }
@@ -1,6 +1,8 @@
 package com.joelmofraga.artists_albums_api.track.controller;
 
+import com.joelmofraga.artists_albums_api.config.ConditionalGet;
 import com.joelmofraga.artists_albums_api.track.dto.TrackBatchCreateRequest;
+import com.joelmofraga.artists_albums_api.track.dto.TrackListVersion;
 import com.joelmofraga.artists_albums_api.track.dto.TrackResponse;
 import com.joelmofraga.artists_albums_api.track.service.TrackService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -98,6 +101,7 @@ public class TrackController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Não modificado (If-None-Match / If-Modified-Since)", content = @Content),
             @ApiResponse(responseCode = "400", description = "ID inválido", content = @Content),
             @ApiResponse(responseCode = "404", description = "Álbum não encontrado", content = @Content)
     })
@@ -107,12 +111,20 @@ public class TrackController {
     )
     public ResponseEntity<?> listByAlbum(
             @Parameter(description = "ID do álbum", example = "14")
-            @PathVariable Long albumId
+            @PathVariable Long albumId,
+            WebRequest webRequest
     ) {
         try {
-            return ResponseEntity.ok(service.listByAlbum(albumId));
+            List<TrackResponse> tracks = service.listByAlbum(albumId);
+            TrackListVersion current = TrackListVersion.of(tracks);
+            String etag = current.lastCreatedAt() != null ? etag(albumId, current) : null;
+            return ConditionalGet.respond(webRequest, tracks, etag, current.lastCreatedAt());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    private String etag(Long albumId, TrackListVersion version) {
+        return ConditionalGet.etag("tracks", albumId, version.count(), version.maxId(), version.lastCreatedAt());
+    }
 }
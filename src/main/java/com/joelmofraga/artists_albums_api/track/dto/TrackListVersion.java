@@ -0,0 +1,20 @@
+package com.joelmofraga.artists_albums_api.track.dto;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+public record TrackListVersion(
+        Long count,
+        Long maxId,
+        Instant lastCreatedAt
+) {
+
+    public static TrackListVersion of(List<TrackResponse> tracks) {
+        return new TrackListVersion(
+                (long) tracks.size(),
+                tracks.stream().map(TrackResponse::id).max(Comparator.naturalOrder()).orElse(null),
+                tracks.stream().map(TrackResponse::createdAt).max(Comparator.naturalOrder()).orElse(null)
+        );
+    }
+}
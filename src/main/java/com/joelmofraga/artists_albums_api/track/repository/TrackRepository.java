@@ -1,10 +1,12 @@
 package com.joelmofraga.artists_albums_api.track.repository;
 
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumTrackRow;
 import com.joelmofraga.artists_albums_api.track.domain.Track;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TrackRepository extends JpaRepository<Track, Long> {
@@ -15,4 +17,14 @@ public interface TrackRepository extends JpaRepository<Track, Long> {
 
 
     List<Track> findAllByAlbumIdOrderByTrackNumberAsc(Long albumId);
+
+    @Query("""
+        select new com.joelmofraga.artists_albums_api.catalog.dto.AlbumTrackRow(
+            t.album.id, t.trackNumber, t.title, t.durationSeconds
+        )
+        from Track t
+        where t.album.id in :albumIds
+        order by t.album.id asc, t.trackNumber asc
+    """)
+    List<AlbumTrackRow> findTrackRowsByAlbumIds(@Param("albumIds") Collection<Long> albumIds);
 }
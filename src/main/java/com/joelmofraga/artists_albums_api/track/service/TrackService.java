@@ -2,6 +2,7 @@ package com.joelmofraga.artists_albums_api.track.service;
 
 import com.joelmofraga.artists_albums_api.album.domain.Album;
 import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
 import com.joelmofraga.artists_albums_api.track.domain.Track;
 import com.joelmofraga.artists_albums_api.track.dto.TrackBatchCreateRequest;
 import com.joelmofraga.artists_albums_api.track.dto.TrackCreateRequest;
@@ -18,35 +19,42 @@ public class TrackService {
 
     private final TrackRepository trackRepository;
     private final AlbumRepository albumRepository;
+    private final CatalogReadCaches caches;
 
-    public TrackService(TrackRepository trackRepository, AlbumRepository albumRepository) {
+    public TrackService(TrackRepository trackRepository, AlbumRepository albumRepository, CatalogReadCaches caches) {
         this.trackRepository = trackRepository;
         this.albumRepository = albumRepository;
+        this.caches = caches;
     }
 
 
     @Transactional(readOnly = true)
     public List<TrackResponse> listByAlbum(Long albumId) {
+        return caches.tracksByAlbum()
+                .get(albumId, this::loadTracks)
+                .orElseThrow(() -> new IllegalArgumentException("Álbum não encontrado: " + albumId));
+    }
 
+    private Optional<List<TrackResponse>> loadTracks(Long albumId) {
         if (!albumRepository.existsById(albumId)) {
-            throw new IllegalArgumentException("Álbum não encontrado: " + albumId);
+            return Optional.empty();
         }
 
-        return trackRepository.findAllByAlbumIdOrderByTrackNumberAsc(albumId)
+        return Optional.of(trackRepository.findAllByAlbumIdOrderByTrackNumberAsc(albumId)
                 .stream()
                 .map(this::toResponse)
-                .toList();
+                .toList());
     }
 
 
     @Transactional
     public List<TrackResponse> addAllToAlbum(Long albumId, TrackBatchCreateRequest request) {
 
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new IllegalArgumentException("Álbum não encontrado: " + albumId));
-
         validateBatchRequest(request);
 
+        Album album = albumRepository.findByIdForUpdate(albumId)
+                .orElseThrow(() -> new IllegalArgumentException("Álbum não encontrado: " + albumId));
+
         int nextNumber = trackRepository.findMaxTrackNumberByAlbumId(albumId) + 1;
 
         List<Track> toSave = new ArrayList<>(request.tracks().size());
@@ -60,7 +68,8 @@ public class TrackService {
         }
 
         try {
-            List<Track> saved = trackRepository.saveAll(toSave);
+            List<Track> saved = trackRepository.saveAllAndFlush(toSave);
+            caches.tracksByAlbum().evict(albumId);
             saved.sort(Comparator.comparing(Track::getTrackNumber));
             return saved.stream().map(this::toResponse).toList();
         } catch (DataIntegrityViolationException e) {
@@ -0,0 +1,5 @@
+--Índice composto para paginação por cursor (keyset) ordenada por título + id.
+--Substitui o ix_album_title, já que (title, id) atende também às buscas por título.
+CREATE INDEX IF NOT EXISTS ix_album_title_id ON album (title, id);
+
+DROP INDEX IF EXISTS ix_album_title;
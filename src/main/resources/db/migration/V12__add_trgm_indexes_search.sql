@@ -0,0 +1,9 @@
+--Extensão de trigramas para busca por trecho (LIKE '%x%') indexada
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+--Índices GIN sobre lower(...) para atender os filtros case-insensitive de título e nome
+CREATE INDEX IF NOT EXISTS ix_album_title_trgm
+  ON album USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_artist_name_trgm
+  ON artist USING gin (lower(name) gin_trgm_ops);
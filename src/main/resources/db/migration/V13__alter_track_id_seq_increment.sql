@@ -0,0 +1,3 @@
+--Track passa a usar sequence com allocationSize=50 (Hibernate reserva blocos de ids e agrupa os INSERTs em lote).
+--O DEFAULT nextval do BIGSERIAL continua válido para inserts manuais: cada chamada apenas consome um bloco.
+ALTER SEQUENCE track_id_seq INCREMENT BY 50;
@@ -0,0 +1,11 @@
+--Janelas de rate limit compartilhadas entre as instâncias (app.rate-limit.backend=postgres).
+--UNLOGGED: dado efêmero, não precisa de WAL; em caso de crash a tabela volta vazia (limites reiniciam).
+CREATE UNLOGGED TABLE IF NOT EXISTS rate_limit_window (
+  bucket_key    VARCHAR(300) PRIMARY KEY,
+  window_start  TIMESTAMPTZ NOT NULL,
+  expires_at    TIMESTAMPTZ NOT NULL,
+  used          INT NOT NULL,
+  last_grant    INT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_rate_limit_window_expires_at ON rate_limit_window (expires_at);
@@ -0,0 +1,2 @@
+--Placeholder de baixa resolução (data URI JPEG) gerado junto com as variantes redimensionadas da capa.
+ALTER TABLE media_object ADD COLUMN IF NOT EXISTS placeholder TEXT;
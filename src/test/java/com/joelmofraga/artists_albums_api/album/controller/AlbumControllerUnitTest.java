@@ -8,9 +8,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -55,7 +59,7 @@ class AlbumControllerUnitTest {
         AlbumResponse album = mock(AlbumResponse.class);
         when(albumService.getById(1L)).thenReturn(album);
 
-        ResponseEntity<AlbumResponse> resp = controller.getById(1L);
+        ResponseEntity<AlbumResponse> resp = controller.getById(1L, webRequest(null));
 
         assertThat(resp.getStatusCode().value()).isEqualTo(200);
         assertThat(resp.getBody()).isSameAs(album);
@@ -63,4 +67,39 @@ class AlbumControllerUnitTest {
         verify(albumService).getById(1L);
         verifyNoMoreInteractions(albumService);
     }
+
+    @Test
+    void getById_comEtagAtual_deveRetornar304SemCorpo_eSemConsultaExtra() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:00:00.123Z");
+        AlbumResponse album = new AlbumResponse(1L, "Cabeça Dinossauro", 1986, "Rock", "LP", "Long Play", updatedAt, updatedAt);
+        when(albumService.getById(1L)).thenReturn(album);
+
+        ResponseEntity<AlbumResponse> resp = controller.getById(1L, webRequest("\"album-1-" + updatedAt.toEpochMilli() + "\""));
+
+        assertThat(resp.getStatusCode().value()).isEqualTo(304);
+        assertThat(resp.getBody()).isNull();
+        verify(albumService).getById(1L);
+        verifyNoMoreInteractions(albumService);
+    }
+
+    @Test
+    void getById_comEtagAntigo_deveRetornar200ComEtagNovo() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:00:00.123Z");
+        AlbumResponse album = new AlbumResponse(1L, "Cabeça Dinossauro", 1986, "Rock", "LP", "Long Play", updatedAt, updatedAt);
+        when(albumService.getById(1L)).thenReturn(album);
+
+        ResponseEntity<AlbumResponse> resp = controller.getById(1L, webRequest("\"album-1-1\""));
+
+        assertThat(resp.getStatusCode().value()).isEqualTo(200);
+        assertThat(resp.getHeaders().getETag()).isEqualTo("\"album-1-" + updatedAt.toEpochMilli() + "\"");
+        assertThat(resp.getHeaders().getLastModified()).isEqualTo(updatedAt.toEpochMilli() / 1000 * 1000);
+    }
+
+    private ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/albums/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,67 @@
+package com.joelmofraga.artists_albums_api.album.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AlbumCursorTest {
+
+    @Test
+    void start_semSort_deveOrdenarPorIdAsc_ePosicaoInicial() {
+        AlbumCursor cursor = AlbumCursor.start(null);
+
+        assertThat(cursor.sort()).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+        assertThat(cursor.position()).isInstanceOf(KeysetScrollPosition.class);
+        assertThat(((KeysetScrollPosition) cursor.position()).getKeys()).isEmpty();
+    }
+
+    @Test
+    void start_porTitleDesc_deveDesempatarPorId() {
+        AlbumCursor cursor = AlbumCursor.start("title,desc");
+
+        assertThat(cursor.sort()).isEqualTo(
+                Sort.by(Sort.Direction.DESC, "title").and(Sort.by(Sort.Direction.DESC, "id"))
+        );
+    }
+
+    @Test
+    void start_quandoCampoNaoPermitido_retorna400() {
+        ResponseStatusException ex = catchThrowableOfType(() -> AlbumCursor.start("genre"), ResponseStatusException.class);
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void encodeDecode_devePreservarChaveDoUltimoItem() {
+        Album last = mock(Album.class);
+        when(last.getId()).thenReturn(42L);
+        when(last.getTitle()).thenReturn("Õ Blésq Blom | Remaster");
+
+        String token = AlbumCursor.start("title,desc").after(last).encode();
+        AlbumCursor decoded = AlbumCursor.decode(token);
+
+        assertThat(decoded.field()).isEqualTo("title");
+        assertThat(decoded.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(decoded.lastId()).isEqualTo(42L);
+        assertThat(decoded.lastTitle()).isEqualTo("Õ Blésq Blom | Remaster");
+
+        KeysetScrollPosition position = (KeysetScrollPosition) decoded.position();
+        assertThat(position.getKeys()).containsExactly(
+                entry("title", "Õ Blésq Blom | Remaster"),
+                entry("id", 42L)
+        );
+    }
+
+    @Test
+    void decode_quandoTokenInvalido_retorna400() {
+        ResponseStatusException ex = catchThrowableOfType(() -> AlbumCursor.decode("@@nao-e-base64@@"), ResponseStatusException.class);
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(400);
+        assertThat(ex.getReason()).contains("Invalid cursor");
+    }
+}
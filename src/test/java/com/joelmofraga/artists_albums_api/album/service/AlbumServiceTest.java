@@ -3,9 +3,11 @@ package com.joelmofraga.artists_albums_api.album.service;
 import com.joelmofraga.artists_albums_api.album.domain.Album;
 import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumCreateRequest;
+import com.joelmofraga.artists_albums_api.album.dto.AlbumResponse;
 import com.joelmofraga.artists_albums_api.album.dto.AlbumUpdateRequest;
 import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
-import com.joelmofraga.artists_albums_api.album.repository.AlbumTypeRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.media.service.AlbumCoverService;
 import com.joelmofraga.artists_albums_api.websocket.dto.AlbumCreatedEvent;
 import com.joelmofraga.artists_albums_api.websocket.notifier.AlbumWsNotifier;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,8 +31,10 @@ import static org.mockito.Mockito.*;
 class AlbumServiceTest {
 
     @Mock private AlbumRepository albumRepository;
-    @Mock private AlbumTypeRepository albumTypeRepository;
+    @Mock private AlbumTypeCatalog albumTypeCatalog;
     @Mock private AlbumWsNotifier notifier;
+    @Mock private AlbumCoverService albumCoverService;
+    @Spy private CatalogReadCaches caches = CatalogReadCaches.disabled();
 
     @InjectMocks
     private AlbumService service;
@@ -51,7 +56,7 @@ class AlbumServiceTest {
         when(type.getCode()).thenReturn("LP");
         when(type.getDescription()).thenReturn("Long Play");
 
-        when(albumTypeRepository.findByCodeIgnoreCase("LP")).thenReturn(Optional.of(type));
+        when(albumTypeCatalog.findByCode("LP")).thenReturn(Optional.of(type));
 
         Instant createdAt = Instant.parse("2020-01-01T00:00:00Z");
         Instant updatedAt = Instant.parse("2020-01-02T00:00:00Z");
@@ -87,9 +92,9 @@ class AlbumServiceTest {
         assertThat(evt.releaseYear()).isEqualTo(1987);
         assertThat(evt.createdAt()).isEqualTo(createdAt);
 
-        verify(albumTypeRepository).findByCodeIgnoreCase("LP");
+        verify(albumTypeCatalog).findByCode("LP");
         verify(albumRepository).save(any(Album.class));
-        verifyNoMoreInteractions(albumTypeRepository, albumRepository, notifier);
+        verifyNoMoreInteractions(albumTypeCatalog, albumRepository, notifier);
     }
 
     @Test
@@ -99,14 +104,14 @@ class AlbumServiceTest {
         req.setTitle("Any");
         req.setReleaseYear(2000);
 
-        when(albumTypeRepository.findByCodeIgnoreCase("XYZ")).thenReturn(Optional.empty());
+        when(albumTypeCatalog.findByCode("XYZ")).thenReturn(Optional.empty());
 
         ResponseStatusException ex = catchThrowableOfType(() -> service.create(req), ResponseStatusException.class);
 
         assertThat(ex.getStatusCode().value()).isEqualTo(400);
         assertThat(ex.getReason()).contains("Invalid albumTypeCode");
 
-        verify(albumTypeRepository).findByCodeIgnoreCase("XYZ");
+        verify(albumTypeCatalog).findByCode("XYZ");
         verifyNoInteractions(albumRepository, notifier);
     }
 
@@ -120,14 +125,14 @@ class AlbumServiceTest {
         AlbumType type = mock(AlbumType.class);
         when(type.getActive()).thenReturn(false);
 
-        when(albumTypeRepository.findByCodeIgnoreCase("LP")).thenReturn(Optional.of(type));
+        when(albumTypeCatalog.findByCode("LP")).thenReturn(Optional.of(type));
 
         ResponseStatusException ex = catchThrowableOfType(() -> service.create(req), ResponseStatusException.class);
 
         assertThat(ex.getStatusCode().value()).isEqualTo(400);
         assertThat(ex.getReason()).contains("Invalid albumTypeCode");
 
-        verify(albumTypeRepository).findByCodeIgnoreCase("LP");
+        verify(albumTypeCatalog).findByCode("LP");
         verifyNoInteractions(albumRepository, notifier);
     }
 
@@ -144,7 +149,7 @@ class AlbumServiceTest {
 
         verify(albumRepository).findById(999L);
         verifyNoMoreInteractions(albumRepository);
-        verifyNoInteractions(albumTypeRepository, notifier);
+        verifyNoInteractions(albumTypeCatalog, notifier);
     }
 
 
@@ -155,7 +160,7 @@ class AlbumServiceTest {
         assertThat(ex.getStatusCode().value()).isEqualTo(400);
         assertThat(ex.getReason()).contains("title is required");
 
-        verifyNoInteractions(albumRepository, albumTypeRepository, notifier);
+        verifyNoInteractions(albumRepository, albumTypeCatalog, notifier);
     }
 
 
@@ -175,7 +180,7 @@ class AlbumServiceTest {
 
         verify(albumRepository).findById(10L);
         verifyNoMoreInteractions(albumRepository);
-        verifyNoInteractions(albumTypeRepository, notifier);
+        verifyNoInteractions(albumTypeCatalog, notifier);
     }
 
 
@@ -212,6 +217,74 @@ class AlbumServiceTest {
 
         verify(albumRepository).findAll(Mockito.<Specification<Album>>any(), eq(pageable));
         verifyNoMoreInteractions(albumRepository);
-        verifyNoInteractions(albumTypeRepository, notifier);
+        verifyNoInteractions(albumTypeCatalog, notifier);
+    }
+
+    @Test
+    void listByCursor_quandoSizeForaDoLimite_retorna400_semConsultar() {
+        ResponseStatusException ex = catchThrowableOfType(
+                () -> service.listByCursor(null, null, null, "", 101, "id"),
+                ResponseStatusException.class
+        );
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(400);
+        assertThat(ex.getReason()).contains("size must be between 1 and 100");
+
+        verifyNoInteractions(albumRepository, albumTypeCatalog, notifier);
+    }
+
+    @Test
+    void getByTitle_usaProjecaoDto_eRetornaPrimeiroResultado() {
+        AlbumResponse projected = new AlbumResponse(3L, "Selvagem?", 1986, "Rock/Reggae", "STUDIO", "Álbum de estúdio", null, null);
+        when(albumRepository.findResponsesByTitle("Selvagem?", Limit.of(1))).thenReturn(List.of(projected));
+
+        AlbumResponse resp = service.getByTitle("  Selvagem?  ");
+
+        assertThat(resp).isSameAs(projected);
+
+        verify(albumRepository).findResponsesByTitle("Selvagem?", Limit.of(1));
+        verifyNoMoreInteractions(albumRepository);
+        verifyNoInteractions(albumTypeCatalog, notifier);
+    }
+
+    @Test
+    void getByTitle_quandoProjecaoVazia_retorna404() {
+        when(albumRepository.findResponsesByTitle("Nada", Limit.of(1))).thenReturn(List.of());
+
+        ResponseStatusException ex = catchThrowableOfType(() -> service.getByTitle("Nada"), ResponseStatusException.class);
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(404);
+        assertThat(ex.getReason()).contains("Album not found for title");
+    }
+
+    @Test
+    void getAlbumsByArtistName_retornaProjecaoDoRepositorio_semCarregarEntidades() {
+        List<AlbumResponse> projected = List.of(
+                new AlbumResponse(1L, "Cinema Mudo", 1983, "Rock", "STUDIO", "Álbum de estúdio", null, null)
+        );
+        when(albumRepository.findResponsesByArtistName("Paralamas")).thenReturn(projected);
+
+        List<AlbumResponse> resp = service.getAlbumsByArtistName(" Paralamas ");
+
+        assertThat(resp).isSameAs(projected);
+
+        verify(albumRepository).findResponsesByArtistName("Paralamas");
+        verifyNoMoreInteractions(albumRepository);
+    }
+
+    @Test
+    void attachCoverUrls_buscaCapasDaPaginaEmLote_ePreencheSomenteAsEncontradas() {
+        AlbumResponse comCapa = new AlbumResponse(1L, "Cinema Mudo", 1983, "Rock", "STUDIO", "Álbum de estúdio", null, null);
+        AlbumResponse semCapa = new AlbumResponse(2L, "Selvagem?", 1986, "Rock", "STUDIO", "Álbum de estúdio", null, null);
+        when(albumCoverService.getCoverPresignedUrls(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new AlbumCoverService.PresignedUrlResponse("http://minio/capa-1.png", null, null)
+        ));
+
+        service.attachCoverUrls(List.of(comCapa, semCapa));
+
+        assertThat(comCapa.getCoverUrl()).isEqualTo("http://minio/capa-1.png");
+        assertThat(semCapa.getCoverUrl()).isNull();
+        verify(albumCoverService, times(1)).getCoverPresignedUrls(anyCollection());
+        verifyNoInteractions(albumRepository);
     }
 }
@@ -0,0 +1,72 @@
+package com.joelmofraga.artists_albums_api.album.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumTypeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AlbumTypeCatalogTest {
+
+    private AlbumTypeRepository albumTypeRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private AlbumTypeCatalog catalog;
+
+    private AlbumType studio;
+
+    @BeforeEach
+    void setUp() {
+        albumTypeRepository = mock(AlbumTypeRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        studio = mock(AlbumType.class);
+        when(studio.getCode()).thenReturn("STUDIO");
+        when(albumTypeRepository.findAll()).thenReturn(List.of(studio));
+
+        catalog = new AlbumTypeCatalog(albumTypeRepository, meterRegistry);
+        catalog.load();
+    }
+
+    @Test
+    void findByCode_quandoCodigoCarregado_naoConsultaBanco_eContaHit() {
+        Optional<AlbumType> found = catalog.findByCode(" studio ");
+
+        assertThat(found).containsSame(studio);
+        assertThat(meterRegistry.counter("album.type.catalog.lookups", "result", "hit").count()).isEqualTo(1.0);
+
+        verify(albumTypeRepository).findAll();
+        verifyNoMoreInteractions(albumTypeRepository);
+    }
+
+    @Test
+    void findByCode_quandoCodigoDesconhecido_consultaBanco_eContaMiss() {
+        when(albumTypeRepository.findByCodeIgnoreCase("XYZ")).thenReturn(Optional.empty());
+
+        Optional<AlbumType> found = catalog.findByCode("XYZ");
+
+        assertThat(found).isEmpty();
+        assertThat(meterRegistry.counter("album.type.catalog.lookups", "result", "miss").count()).isEqualTo(1.0);
+
+        verify(albumTypeRepository).findByCodeIgnoreCase("XYZ");
+    }
+
+    @Test
+    void findByCode_quandoTipoNovoNoBanco_recarregaCatalogo() {
+        AlbumType live = mock(AlbumType.class);
+        when(live.getCode()).thenReturn("LIVE");
+        when(albumTypeRepository.findByCodeIgnoreCase("LIVE")).thenReturn(Optional.of(live));
+        when(albumTypeRepository.findAll()).thenReturn(List.of(studio, live));
+
+        assertThat(catalog.findByCode("LIVE")).containsSame(live);
+        assertThat(catalog.findByCode("live")).containsSame(live);
+
+        verify(albumTypeRepository, times(1)).findByCodeIgnoreCase("LIVE");
+        verify(albumTypeRepository, times(2)).findAll();
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
@@ -139,7 +142,8 @@ class ArtistControllerTest {
         ArtistResponse artist = new ArtistResponse(1L, "Titãs", "Brasil", "Rock", null, null);
         when(artistService.getById(1L)).thenReturn(artist);
 
-        ResponseEntity<ArtistResponse> resp = controller.getById(1L);
+        ResponseEntity<ArtistResponse> resp = controller.getById(1L,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/artists/1"), new MockHttpServletResponse()));
 
         assertThat(resp.getStatusCode().value()).isEqualTo(200);
         assertThat(resp.getBody()).isSameAs(artist);
@@ -4,6 +4,7 @@ import com.joelmofraga.artists_albums_api.artist.domain.Artist;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistCreateRequest;
 import com.joelmofraga.artists_albums_api.artist.dto.ArtistResponse;
 import com.joelmofraga.artists_albums_api.artist.repository.ArtistRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -26,7 +27,7 @@ class ArtistServiceTest {
     @BeforeEach
     void setUp() {
         artistRepository = mock(ArtistRepository.class);
-        service = new ArtistService(artistRepository);
+        service = new ArtistService(artistRepository, CatalogReadCaches.disabled());
     }
 
     @Test
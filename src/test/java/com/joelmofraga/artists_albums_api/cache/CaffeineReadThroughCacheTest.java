@@ -0,0 +1,54 @@
+package com.joelmofraga.artists_albums_api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CaffeineReadThroughCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CaffeineReadThroughCache<Long, String> cache = new CaffeineReadThroughCache<>(
+            "test.cache", registry, 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+    @Test
+    void get_quandoAusente_guardaEntradaNegativa() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Optional<String> value = cache.get(404L, id -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            assertThat(value).isEmpty();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.gets").tags("cache", "test.cache", "result", "hit").functionCounter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void evict_removeEntradaNegativa_eProximaLeituraRecarrega() {
+        cache.get(1L, id -> Optional.empty());
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L, id -> Optional.of("Album 1"))).contains("Album 1");
+    }
+
+    @Test
+    void get_quandoEvictOcorreDuranteCarga_naoGuardaValorAntigo() {
+        Optional<String> loaded = cache.get(7L, id -> {
+            cache.evict(7L);
+            return Optional.of("Titulo antigo");
+        });
+
+        assertThat(loaded).contains("Titulo antigo");
+        assertThat(cache.get(7L, id -> Optional.of("Titulo novo"))).contains("Titulo novo");
+    }
+}
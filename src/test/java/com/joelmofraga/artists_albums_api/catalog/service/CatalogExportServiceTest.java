@@ -0,0 +1,102 @@
+package com.joelmofraga.artists_albums_api.catalog.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.artist.repository.ArtistRepository;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumArtistRow;
+import com.joelmofraga.artists_albums_api.catalog.dto.AlbumTrackRow;
+import com.joelmofraga.artists_albums_api.catalog.service.CatalogExportService.Format;
+import com.joelmofraga.artists_albums_api.track.repository.TrackRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CatalogExportServiceTest {
+
+    private AlbumRepository albumRepository;
+    private ArtistRepository artistRepository;
+    private TrackRepository trackRepository;
+    private EntityManager entityManager;
+    private CatalogExportService service;
+
+    @BeforeEach
+    void setUp() {
+        albumRepository = mock(AlbumRepository.class);
+        artistRepository = mock(ArtistRepository.class);
+        trackRepository = mock(TrackRepository.class);
+        entityManager = mock(EntityManager.class);
+
+        service = new CatalogExportService(
+                albumRepository, artistRepository, trackRepository, entityManager,
+                JsonMapper.builder().build(), mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @Test
+    void exportAlbums_ndjson_escreveUmaLinhaPorAlbum_comArtistasEFaixas() {
+        Album album = album(1L, "Cabeça Dinossauro");
+        when(albumRepository.streamAllForExport()).thenReturn(Stream.of(album));
+        when(artistRepository.findArtistRowsByAlbumIds(List.of(1L)))
+                .thenReturn(List.of(new AlbumArtistRow(1L, 7L, "Titãs")));
+        when(trackRepository.findTrackRowsByAlbumIds(List.of(1L)))
+                .thenReturn(List.of(new AlbumTrackRow(1L, 1, "Cabeça Dinossauro", 140)));
+
+        String output = export(Format.NDJSON);
+
+        assertThat(output.lines()).hasSize(1);
+        assertThat(output).contains("\"title\":\"Cabeça Dinossauro\"")
+                .contains("\"artists\":[{\"id\":7,\"name\":\"Titãs\"}]")
+                .contains("\"trackNumber\":1");
+    }
+
+    @Test
+    void exportAlbums_csv_escapaCampos_eLimpaContextoACadaLote() {
+        List<Album> albums = IntStream.rangeClosed(1, 501)
+                .mapToObj(i -> album((long) i, i == 1 ? "Rock, \"Ao Vivo\"" : "Album " + i))
+                .toList();
+        when(albumRepository.streamAllForExport()).thenReturn(albums.stream());
+        when(artistRepository.findArtistRowsByAlbumIds(anyCollection())).thenReturn(List.of());
+        when(trackRepository.findTrackRowsByAlbumIds(anyCollection())).thenReturn(List.of());
+
+        String output = export(Format.CSV);
+
+        List<String> lines = output.lines().toList();
+        assertThat(lines).hasSize(502);
+        assertThat(lines.get(0)).startsWith("id,title,");
+        assertThat(lines.get(1)).isEqualTo("1,\"Rock, \"\"Ao Vivo\"\"\",1986,,STUDIO,,0,");
+
+        verify(artistRepository, times(2)).findArtistRowsByAlbumIds(anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+
+    private String export(Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportAlbums(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private Album album(Long id, String title) {
+        AlbumType type = mock(AlbumType.class);
+        when(type.getCode()).thenReturn("STUDIO");
+
+        Album album = mock(Album.class);
+        when(album.getId()).thenReturn(id);
+        when(album.getTitle()).thenReturn(title);
+        when(album.getReleaseYear()).thenReturn(1986);
+        when(album.getAlbumType()).thenReturn(type);
+        return album;
+    }
+}
@@ -0,0 +1,144 @@
+package com.joelmofraga.artists_albums_api.catalog.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.AlbumType;
+import com.joelmofraga.artists_albums_api.album.service.AlbumTypeCatalog;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportLineError;
+import com.joelmofraga.artists_albums_api.catalog.dto.ImportReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CatalogImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AlbumTypeCatalog albumTypeCatalog;
+    private CatalogReadCaches caches;
+    private CatalogImportService service;
+
+    private final AtomicLong ids = new AtomicLong(100);
+    private final List<Object[]> insertedTracks = new ArrayList<>();
+    private final List<Object[]> insertedLinks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        albumTypeCatalog = mock(AlbumTypeCatalog.class);
+        caches = new CatalogReadCaches(new SimpleMeterRegistry(), true, 100, 300, 30);
+
+        service = new CatalogImportService(
+                JsonMapper.builder().build(),
+                jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                albumTypeCatalog,
+                caches,
+                2
+        );
+
+        AlbumType studio = mock(AlbumType.class);
+        when(studio.getId()).thenReturn(1L);
+        when(studio.getActive()).thenReturn(true);
+        when(albumTypeCatalog.findByCode("STUDIO")).thenReturn(Optional.of(studio));
+        when(albumTypeCatalog.findByCode("NOPE")).thenReturn(Optional.empty());
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("PRIMARY"))).thenReturn(9L);
+        when(jdbcTemplate.queryForList(startsWith("select nextval"), eq(Long.class), anyInt())).thenAnswer(inv -> {
+            int count = inv.getArgument(2);
+            return LongStream.range(0, count).mapToObj(i -> ids.incrementAndGet()).toList();
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), any(int[].class))).thenAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            List<Object[]> args = inv.getArgument(1);
+            if (sql.startsWith("insert into track")) {
+                insertedTracks.addAll(args);
+            } else if (sql.startsWith("insert into album_artist")) {
+                insertedLinks.addAll(args);
+            }
+            return new int[args.size()];
+        });
+    }
+
+    @Test
+    void importNdjson_resolveRefsEntreLotes_eReportaErrosPorLinha() throws Exception {
+        ImportReport report = service.importNdjson(ndjson(
+                "{\"type\":\"artist\",\"ref\":\"a1\",\"name\":\"Titãs\"}",
+                "{\"type\":\"album\",\"ref\":\"al1\",\"title\":\"Cabeça Dinossauro\",\"releaseYear\":1986,\"albumTypeCode\":\"STUDIO\",\"artistRefs\":[\"a1\"]}",
+                "",
+                "{\"type\":\"track\",\"albumRef\":\"al1\",\"trackNumber\":1,\"title\":\"Cabeça Dinossauro\"}",
+                "{not json",
+                "{\"type\":\"track\",\"albumRef\":\"x9\",\"trackNumber\":2,\"title\":\"Igreja\"}",
+                "{\"type\":\"album\",\"ref\":\"al2\",\"title\":\"Sem tipo\",\"releaseYear\":1990,\"albumTypeCode\":\"NOPE\"}",
+                "{\"type\":\"track\",\"albumRef\":\"al1\",\"trackNumber\":0,\"title\":\"Zero\"}"
+        ));
+
+        assertThat(report.linesRead()).isEqualTo(7);
+        assertThat(report.artistsCreated()).isEqualTo(1);
+        assertThat(report.albumsCreated()).isEqualTo(1);
+        assertThat(report.tracksCreated()).isEqualTo(1);
+        assertThat(report.failedLines()).isEqualTo(4);
+        assertThat(report.errors()).extracting(ImportLineError::line).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(report.errorsTruncated()).isFalse();
+
+        assertThat(insertedLinks).hasSize(1);
+        assertThat(insertedLinks.get(0)[2]).isEqualTo(9L);
+        assertThat(insertedTracks).hasSize(1);
+        assertThat(insertedTracks.get(0)[1]).isEqualTo(insertedLinks.get(0)[0]);
+    }
+
+    @Test
+    void importNdjson_quandoLoteFalhaNoBanco_refazLinhaALinha_eReportaSomenteAFalha() throws Exception {
+        when(jdbcTemplate.batchUpdate(startsWith("insert into track"), anyList(), any(int[].class))).thenAnswer(inv -> {
+            List<Object[]> args = inv.getArgument(1);
+            if (args.stream().anyMatch(a -> "Duplicada".equals(a[3]))) {
+                throw new DataIntegrityViolationException("ux_track_album_number");
+            }
+            insertedTracks.addAll(args);
+            return new int[args.size()];
+        });
+
+        ImportReport report = service.importNdjson(ndjson(
+                "{\"type\":\"artist\",\"ref\":\"a1\",\"name\":\"Titãs\"}",
+                "{\"type\":\"album\",\"ref\":\"al1\",\"title\":\"Televisão\",\"releaseYear\":1985,\"albumTypeCode\":\"STUDIO\",\"artistRefs\":[\"a1\"]}",
+                "{\"type\":\"track\",\"albumRef\":\"al1\",\"trackNumber\":1,\"title\":\"Televisão\"}",
+                "{\"type\":\"track\",\"albumRef\":\"al1\",\"trackNumber\":1,\"title\":\"Duplicada\"}"
+        ));
+
+        assertThat(report.tracksCreated()).isEqualTo(1);
+        assertThat(report.failedLines()).isEqualTo(1);
+        assertThat(report.errors()).extracting(ImportLineError::line).containsExactly(4L);
+        assertThat(insertedTracks).extracting(a -> a[3]).containsExactly("Televisão");
+    }
+
+    @Test
+    void importNdjson_aposGravarLote_descartaNegativosEmCache() throws Exception {
+        assertThat(caches.tracksByAlbum().get(101L, id -> Optional.empty())).isEmpty();
+
+        service.importNdjson(ndjson(
+                "{\"type\":\"album\",\"ref\":\"al1\",\"title\":\"Jesus não tem dentes\",\"releaseYear\":1987,\"albumTypeCode\":\"STUDIO\"}",
+                "{\"type\":\"track\",\"albumRef\":\"al1\",\"trackNumber\":1,\"title\":\"Todo mundo quer amor\"}"
+        ));
+
+        assertThat(caches.tracksByAlbum().get(101L, id -> Optional.of(List.of()))).isPresent();
+    }
+
+    private ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
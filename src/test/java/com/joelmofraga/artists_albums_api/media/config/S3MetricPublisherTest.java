@@ -0,0 +1,44 @@
+package com.joelmofraga.artists_albums_api.media.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class S3MetricPublisherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final S3MetricPublisher publisher = new S3MetricPublisher(registry);
+
+    @Test
+    void publish_chamadaComRetries_registraTimerPorOperacaoERetries() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "PutObject");
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, true);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(120));
+        collector.reportMetric(CoreMetric.RETRY_COUNT, 2);
+
+        publisher.publish(collector.collect());
+
+        Timer timer = registry.get("s3.client.calls").tags("operation", "PutObject", "outcome", "success").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(120.0);
+        assertThat(registry.get("s3.client.retries").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void publish_semDuracao_ignora() {
+        MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "GetObject");
+
+        publisher.publish(collector.collect());
+
+        assertThat(registry.find("s3.client.calls").timers()).isEmpty();
+    }
+}
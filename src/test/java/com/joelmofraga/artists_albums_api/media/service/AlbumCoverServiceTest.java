@@ -0,0 +1,348 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.media.domain.MediaObject;
+import com.joelmofraga.artists_albums_api.media.dto.AlbumCoverUploadResponse;
+import com.joelmofraga.artists_albums_api.media.dto.CoverLocation;
+import com.joelmofraga.artists_albums_api.media.repository.AlbumMediaRepository;
+import com.joelmofraga.artists_albums_api.media.repository.MediaObjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AlbumCoverServiceTest {
+
+    private static final long LARGE_FILE_SIZE = 512L * 1024 * 1024;
+
+    private S3AsyncClient s3;
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private S3Presigner presigner;
+    private AlbumMediaRepository albumMediaRepository;
+    private MediaObjectRepository mediaObjectRepository;
+    private EntityManager entityManager;
+    private AlbumRepository albumRepository;
+    private PlatformTransactionManager transactionManager;
+    private CoverVariantService coverVariantService;
+    private AlbumCoverService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = mock(S3AsyncClient.class);
+        presigner = mock(S3Presigner.class);
+        albumMediaRepository = mock(AlbumMediaRepository.class);
+        mediaObjectRepository = mock(MediaObjectRepository.class);
+        entityManager = mock(EntityManager.class);
+        albumRepository = mock(AlbumRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        coverVariantService = mock(CoverVariantService.class);
+
+        service = new AlbumCoverService(
+                s3, presigner, albumMediaRepository, mediaObjectRepository, entityManager,
+                albumRepository, new TransactionTemplate(transactionManager),
+                new CoverUrlCache(new SimpleMeterRegistry(), 300, 100),
+                coverVariantService
+        );
+        ReflectionTestUtils.setField(service, "bucket", "app-images");
+        ReflectionTestUtils.setField(service, "maxCoverSizeBytes", LARGE_FILE_SIZE);
+
+        when(albumRepository.existsById(14L)).thenReturn(true);
+        when(albumRepository.findByIdForUpdate(14L)).thenReturn(Optional.of(new Album()));
+        when(entityManager.getReference(eq(MediaObject.class), any())).thenReturn(new MediaObject());
+        when(mediaObjectRepository.save(any(MediaObject.class))).thenAnswer(inv -> {
+            MediaObject m = inv.getArgument(0);
+            m.setId(99L);
+            return m;
+        });
+
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        when(presigned.url()).thenReturn(URI.create("http://localhost:9000/app-images/cover.png").toURL());
+        when(presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(presigned);
+
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(inv -> consume(inv.getArgument(1)));
+        when(s3.deleteObject(any(DeleteObjectRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(DeleteObjectResponse.builder().build()));
+    }
+
+    @Test
+    void uploadCover_deveEnviarAPartirDoDisco_semCarregarArquivoEmMemoria() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn(LARGE_FILE_SIZE);
+        when(file.getContentType()).thenReturn("image/png");
+        doAnswer(inv -> {
+            try (RandomAccessFile spooled = new RandomAccessFile(inv.<File>getArgument(0), "rw")) {
+                spooled.setLength(LARGE_FILE_SIZE);
+            }
+            return null;
+        }).when(file).transferTo(any(File.class));
+        when(file.getBytes()).thenThrow(new AssertionError("arquivo não deve ser carregado em memória"));
+
+        AlbumCoverUploadResponse response = service.uploadCover(14L, file);
+
+        assertThat(uploadedBytes.get()).isEqualTo(LARGE_FILE_SIZE);
+        assertThat(response.sizeBytes()).isEqualTo(LARGE_FILE_SIZE);
+        verify(file, never()).getBytes();
+    }
+
+    @Test
+    void uploadCover_corpoEnviadoDevePermitirReenvioNasRetries() throws Exception {
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(inv -> {
+            consume(inv.getArgument(1)).join();
+            return consume(inv.getArgument(1));
+        });
+
+        service.uploadCover(14L, smallPng());
+
+        assertThat(uploadedBytes.get()).isEqualTo(6);
+    }
+
+    @Test
+    void uploadCover_quandoArquivoExcedeLimite_deveRetornar413_semChamarS3() throws Exception {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getSize()).thenReturn(LARGE_FILE_SIZE + 1);
+
+        assertThatThrownBy(() -> service.uploadCover(14L, file))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.CONTENT_TOO_LARGE);
+
+        verifyNoInteractions(s3);
+        verify(file, never()).getInputStream();
+    }
+
+    @Test
+    void uploadCover_deveEnviarAoS3AntesDeAbrirTransacao() throws Exception {
+        MultipartFile file = smallPng();
+
+        service.uploadCover(14L, file);
+
+        InOrder inOrder = inOrder(s3, transactionManager);
+        inOrder.verify(s3).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void uploadCover_quandoFalhaAoGravarNoBanco_deveRemoverObjetoDoS3() throws Exception {
+        MultipartFile file = smallPng();
+        when(mediaObjectRepository.save(any(MediaObject.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.uploadCover(14L, file))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(s3).deleteObject(any(DeleteObjectRequest.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void uploadCover_quandoAlbumNaoExiste_deveRetornar404_semChamarS3() throws Exception {
+        MultipartFile file = smallPng();
+        when(albumRepository.existsById(15L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.uploadCover(15L, file))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+
+        verifyNoInteractions(s3, transactionManager);
+    }
+
+    @Test
+    void getCoverPresignedUrl_deveReutilizarUrlEmCache() {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER")))
+                .thenReturn(List.of(new CoverLocation(14L, "app-images", "albums/14/cover/1.png", null)));
+
+        AlbumCoverService.PresignedUrlResponse first = service.getCoverPresignedUrl(14L);
+        AlbumCoverService.PresignedUrlResponse second = service.getCoverPresignedUrl(14L);
+
+        assertThat(second).isSameAs(first);
+        verify(albumMediaRepository, times(1)).findPrimaryCoverLocations(anyCollection(), eq("COVER"));
+        verify(presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void getCoverPresignedUrl_quandoSemCapa_deveRetornar404() {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER"))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.getCoverPresignedUrl(14L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void getCoverPresignedUrls_deveBuscarSomenteAusentesEmUmaConsulta() {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER")))
+                .thenReturn(List.of(new CoverLocation(14L, "app-images", "albums/14/cover/1.png", null)))
+                .thenReturn(List.of(new CoverLocation(15L, "app-images", "albums/15/cover/1.png", null)));
+
+        service.getCoverPresignedUrl(14L);
+        Map<Long, AlbumCoverService.PresignedUrlResponse> urls = service.getCoverPresignedUrls(List.of(14L, 15L, 16L));
+
+        assertThat(urls).containsOnlyKeys(14L, 15L);
+        verify(albumMediaRepository).findPrimaryCoverLocations(Set.of(15L, 16L), "COVER");
+    }
+
+    @Test
+    void uploadCover_deveSubstituirUrlEmCache() throws Exception {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER")))
+                .thenReturn(List.of(new CoverLocation(14L, "app-images", "albums/14/cover/1.png", null)));
+        AlbumCoverService.PresignedUrlResponse before = service.getCoverPresignedUrl(14L);
+
+        AlbumCoverUploadResponse uploaded = service.uploadCover(14L, smallPng());
+
+        AlbumCoverService.PresignedUrlResponse after = service.getCoverPresignedUrl(14L);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.expiresAt()).isEqualTo(uploaded.expiresAt());
+        verify(albumMediaRepository, times(1)).findPrimaryCoverLocations(anyCollection(), eq("COVER"));
+    }
+
+    @Test
+    void uploadCover_quandoS3Falha_devePropagarErroSemGravarNoBanco() throws Exception {
+        when(s3.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(inv -> {
+            consume(inv.getArgument(1));
+            return CompletableFuture.failedFuture(new IllegalStateException("minio down"));
+        });
+
+        assertThatThrownBy(() -> service.uploadCover(14L, smallPng()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("minio down");
+
+        verifyNoInteractions(transactionManager, mediaObjectRepository);
+    }
+
+    @Test
+    void uploadCover_deveAgendarVariantesAposGravarNoBanco() throws Exception {
+        service.uploadCover(14L, smallPng());
+
+        InOrder inOrder = inOrder(transactionManager, coverVariantService);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(coverVariantService).schedule(argThat(source ->
+                source.albumId().equals(14L) && source.mediaId().equals(99L)
+                        && source.objectKey().startsWith("albums/14/cover/")));
+        verify(albumMediaRepository).clearPrimaryCover(14L, "COVER_256");
+    }
+
+    @Test
+    void uploadCover_deveBloquearAlbumAntesDeTrocarCapaPrincipal() throws Exception {
+        service.uploadCover(14L, smallPng());
+
+        InOrder inOrder = inOrder(albumRepository, albumMediaRepository);
+        inOrder.verify(albumRepository).findByIdForUpdate(14L);
+        inOrder.verify(albumMediaRepository).clearPrimaryCover(14L, "COVER");
+        inOrder.verify(albumMediaRepository).save(any());
+    }
+
+    @Test
+    void uploadCover_quandoFalhaAoGravarNoBanco_naoDeveAgendarVariantes() throws Exception {
+        when(mediaObjectRepository.save(any(MediaObject.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> service.uploadCover(14L, smallPng()))
+                .isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(coverVariantService);
+    }
+
+    @Test
+    void getCoverPresignedUrl_comTamanho_deveRetornarVariante() {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER_256")))
+                .thenReturn(List.of(new CoverLocation(14L, "app-images", "albums/14/cover/1_256.jpg", "data:image/jpeg;base64,AA==")));
+
+        AlbumCoverService.PresignedUrlResponse url = service.getCoverPresignedUrl(14L, "256");
+
+        assertThat(url.placeholder()).isEqualTo("data:image/jpeg;base64,AA==");
+        verify(albumMediaRepository, never()).findPrimaryCoverLocations(anyCollection(), eq("COVER"));
+    }
+
+    @Test
+    void getCoverPresignedUrl_quandoVarianteAindaNaoGerada_deveRetornarOriginal() {
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER_64"))).thenReturn(List.of());
+        when(albumMediaRepository.findPrimaryCoverLocations(anyCollection(), eq("COVER")))
+                .thenReturn(List.of(new CoverLocation(14L, "app-images", "albums/14/cover/1.png", null)));
+
+        AlbumCoverService.PresignedUrlResponse url = service.getCoverPresignedUrl(14L, "64");
+
+        assertThat(url.url()).isEqualTo("http://localhost:9000/app-images/cover.png");
+        verify(albumMediaRepository).findPrimaryCoverLocations(Set.of(14L), "COVER_64");
+        verify(albumMediaRepository).findPrimaryCoverLocations(Set.of(14L), "COVER");
+    }
+
+    @Test
+    void getCoverPresignedUrl_quandoTamanhoInvalido_deveRetornar400() {
+        assertThatThrownBy(() -> service.getCoverPresignedUrl(14L, "300"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(ex -> ((ResponseStatusException) ex).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verifyNoInteractions(albumMediaRepository);
+    }
+
+    private CompletableFuture<PutObjectResponse> consume(AsyncRequestBody body) {
+        assertThat(body.contentLength()).isPresent();
+        CompletableFuture<PutObjectResponse> done = new CompletableFuture<>();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                uploadedBytes.addAndGet(buffer.remaining());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(PutObjectResponse.builder().build());
+            }
+        });
+        return done;
+    }
+
+    private MultipartFile smallPng() {
+        return new MockMultipartFile("file", "cover.png", "image/png", new byte[]{1, 2, 3});
+    }
+}
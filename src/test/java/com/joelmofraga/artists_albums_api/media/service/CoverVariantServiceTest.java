@@ -0,0 +1,219 @@
+package com.joelmofraga.artists_albums_api.media.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.media.domain.AlbumMedia;
+import com.joelmofraga.artists_albums_api.media.domain.CoverSize;
+import com.joelmofraga.artists_albums_api.media.domain.MediaObject;
+import com.joelmofraga.artists_albums_api.media.repository.AlbumMediaRepository;
+import com.joelmofraga.artists_albums_api.media.repository.MediaObjectRepository;
+import com.joelmofraga.artists_albums_api.media.service.AlbumCoverService.PresignedUrlResponse;
+import com.joelmofraga.artists_albums_api.media.service.CoverVariantService.CoverSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CoverVariantServiceTest {
+
+    private static final CoverSource SOURCE = new CoverSource(14L, 99L, "app-images", "albums/14/cover/1700.png");
+
+    private S3Client s3;
+    private AlbumMediaRepository albumMediaRepository;
+    private MediaObjectRepository mediaObjectRepository;
+    private AlbumRepository albumRepository;
+    private CoverUrlCache coverUrlCache;
+    private CoverVariantService service;
+    private final List<BufferedImage> uploaded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3 = mock(S3Client.class);
+        albumMediaRepository = mock(AlbumMediaRepository.class);
+        mediaObjectRepository = mock(MediaObjectRepository.class);
+        albumRepository = mock(AlbumRepository.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        coverUrlCache = new CoverUrlCache(new SimpleMeterRegistry(), 300, 100);
+
+        service = new CoverVariantService(
+                s3, albumMediaRepository, mediaObjectRepository, albumRepository, entityManager,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                coverUrlCache, new SimpleMeterRegistry(), 1, 10, 40_000_000
+        );
+
+        when(albumRepository.findByIdForUpdate(14L)).thenReturn(Optional.of(new Album()));
+        when(entityManager.getReference(eq(MediaObject.class), any())).thenReturn(new MediaObject());
+        when(mediaObjectRepository.save(any(MediaObject.class))).thenAnswer(inv -> {
+            MediaObject m = inv.getArgument(0);
+            m.setId(100L + uploaded.size());
+            return m;
+        });
+        when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(inv -> original(2000, 1000));
+        when(s3.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(inv -> {
+            RequestBody body = inv.getArgument(1);
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                uploaded.add(ImageIO.read(in));
+            }
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.shutdown();
+    }
+
+    @Test
+    void generate_deveGravarVariantesRedimensionadasSemAmpliar() {
+        when(albumMediaRepository.isPrimary(14L, 99L, "COVER")).thenReturn(true);
+
+        service.generate(SOURCE);
+
+        ArgumentCaptor<PutObjectRequest> puts = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3, times(3)).putObject(puts.capture(), any(RequestBody.class));
+        assertThat(puts.getAllValues()).extracting(PutObjectRequest::key).containsExactly(
+                "albums/14/cover/1700_1024.jpg",
+                "albums/14/cover/1700_256.jpg",
+                "albums/14/cover/1700_64.jpg"
+        );
+        assertThat(puts.getAllValues()).extracting(PutObjectRequest::contentType).containsOnly("image/jpeg");
+        assertThat(uploaded).extracting(BufferedImage::getWidth).containsExactly(1024, 256, 64);
+        assertThat(uploaded).extracting(BufferedImage::getHeight).containsExactly(512, 128, 32);
+
+        ArgumentCaptor<AlbumMedia> links = ArgumentCaptor.forClass(AlbumMedia.class);
+        verify(albumMediaRepository, times(3)).save(links.capture());
+        assertThat(links.getAllValues()).extracting(AlbumMedia::getMediaType)
+                .containsExactly("COVER_1024", "COVER_256", "COVER_64");
+        assertThat(links.getAllValues()).allMatch(AlbumMedia::isPrimary);
+        verify(albumMediaRepository).clearPrimaryCover(14L, "COVER_1024");
+        verify(mediaObjectRepository).updatePlaceholder(eq(99L), startsWith("data:image/jpeg;base64,"));
+    }
+
+    @Test
+    void generate_quandoOriginalMenorQueVariante_naoDeveAmpliar() {
+        when(albumMediaRepository.isPrimary(14L, 99L, "COVER")).thenReturn(true);
+        when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(inv -> original(300, 300));
+
+        service.generate(SOURCE);
+
+        assertThat(uploaded).extracting(BufferedImage::getWidth).containsExactly(300, 256, 64);
+    }
+
+    @Test
+    void generate_deveBloquearAlbumAntesDeConferirCapaPrincipal() {
+        when(albumMediaRepository.isPrimary(14L, 99L, "COVER")).thenReturn(true);
+
+        service.generate(SOURCE);
+
+        InOrder inOrder = inOrder(albumRepository, albumMediaRepository);
+        inOrder.verify(albumRepository).findByIdForUpdate(14L);
+        inOrder.verify(albumMediaRepository).isPrimary(14L, 99L, "COVER");
+        inOrder.verify(albumMediaRepository).save(any(AlbumMedia.class));
+    }
+
+    @Test
+    void generate_quandoAlbumFoiRemovido_deveDescartarVariantes() {
+        when(albumRepository.findByIdForUpdate(14L)).thenReturn(Optional.empty());
+
+        service.generate(SOURCE);
+
+        verify(albumMediaRepository, never()).save(any());
+        verify(s3, times(3)).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void generate_quandoCapaFoiSubstituida_deveDescartarVariantes() {
+        when(albumMediaRepository.isPrimary(14L, 99L, "COVER")).thenReturn(false);
+
+        service.generate(SOURCE);
+
+        verify(albumMediaRepository, never()).save(any());
+        verify(mediaObjectRepository, never()).updatePlaceholder(any(), any());
+        verify(s3, times(3)).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void generate_deveInvalidarUrlsEmCacheDoAlbum() {
+        when(albumMediaRepository.isPrimary(14L, 99L, "COVER")).thenReturn(true);
+        coverUrlCache.put("COVER_256", 14L, new PresignedUrlResponse("http://minio/antiga.png",
+                OffsetDateTime.now().plusMinutes(30), null));
+
+        service.generate(SOURCE);
+
+        assertThat(coverUrlCache.getAll("COVER_256", List.of(14L), ids -> Map.of())).isEmpty();
+    }
+
+    @Test
+    void generate_quandoImagemNaoSuportada_naoDeveGravarNada() {
+        when(s3.getObject(any(GetObjectRequest.class))).thenAnswer(inv -> stream(new byte[]{1, 2, 3}));
+
+        service.generate(SOURCE);
+
+        verify(s3, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verifyNoInteractions(albumMediaRepository);
+    }
+
+    @Test
+    void generate_quandoImagemExcedeLimiteDePixels_naoDeveDecodificar() throws Exception {
+        service.shutdown();
+        service = new CoverVariantService(
+                s3, albumMediaRepository, mediaObjectRepository, albumRepository, mock(EntityManager.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                coverUrlCache, new SimpleMeterRegistry(), 1, 10, 1_000_000
+        );
+
+        service.generate(SOURCE);
+
+        verify(s3, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verifyNoInteractions(albumMediaRepository);
+    }
+
+    @Test
+    void variantKey_deveSubstituirExtensaoPeloTamanho() {
+        assertThat(CoverVariantService.variantKey("albums/14/cover/1700.webp", CoverSize.SMALL))
+                .isEqualTo("albums/14/cover/1700_64.jpg");
+        assertThat(CoverVariantService.variantKey("albums/14/cover/1700", CoverSize.LARGE))
+                .isEqualTo("albums/14/cover/1700_1024.jpg");
+    }
+
+    private ResponseInputStream<GetObjectResponse> original(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return stream(out.toByteArray());
+    }
+
+    private ResponseInputStream<GetObjectResponse> stream(byte[] bytes) {
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes))
+        );
+    }
+}
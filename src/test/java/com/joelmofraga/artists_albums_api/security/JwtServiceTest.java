@@ -0,0 +1,46 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "segredo-de-teste-com-pelo-menos-32-bytes!!";
+
+    private final UserDetails user = User.withUsername("administrador").password("x").roles("ADMIN").build();
+
+    @Test
+    void validate_deveRetornarClaims_eTokenSerValidoParaOUsuario() {
+        JwtService service = new JwtService(SECRET, 5);
+        String token = service.generateToken(user);
+
+        Claims claims = service.validate(token);
+
+        assertThat(claims.getSubject()).isEqualTo("administrador");
+        assertThat(service.isTokenValid(claims, user)).isTrue();
+        assertThat(service.isTokenValid(claims, User.withUsername("outro").password("x").build())).isFalse();
+    }
+
+    @Test
+    void validate_quandoAssinaturaAdulterada_deveLancarJwtException() {
+        JwtService service = new JwtService(SECRET, 5);
+        String token = service.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> service.validate(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void validate_quandoTokenExpirado_deveLancarExpiredJwtException() {
+        JwtService service = new JwtService(SECRET, -1);
+        String token = service.generateToken(user);
+
+        assertThatThrownBy(() -> service.validate(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,26 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalRateLimiterTest {
+
+    @Test
+    void tryConsume_aposLimite_rejeitaComRetryAfter() {
+        LocalRateLimiter limiter = new LocalRateLimiter(new RateLimitStore(new SimpleMeterRegistry(), 1024 * 1024, 600));
+
+        for (int i = 0; i < 3; i++) {
+            RateLimitDecision decision = limiter.tryConsume("api", "user:ana", 3, Duration.ofMinutes(1));
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(2 - i);
+        }
+
+        RateLimitDecision rejected = limiter.tryConsume("api", "user:ana", 3, Duration.ofMinutes(1));
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 60L);
+    }
+}
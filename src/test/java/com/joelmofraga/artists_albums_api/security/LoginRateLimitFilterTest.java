@@ -0,0 +1,90 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoginRateLimitFilterTest {
+
+    private static final String LOGIN = "/api/v1/auth/login";
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final LoginRateLimitFilter filter =
+            new LoginRateLimitFilter(JsonMapper.builder().build(), LOGIN, rateLimiter, 64, new SimpleMeterRegistry());
+
+    @Test
+    void doFilter_comUsername_usaChaveDoUsuarioEPreservaCorpo() throws Exception {
+        when(rateLimiter.tryConsume(eq("login"), anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitDecision.allowed(9));
+        String body = "{\"meta\":{\"a\":[1,2]},\"username\":\" Ana \",\"password\":\"x\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login(body.getBytes(StandardCharsets.UTF_8)), new MockHttpServletResponse(), chain);
+
+        verify(rateLimiter).tryConsume("login", "user:ana", 10, Duration.ofMinutes(1));
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void doFilter_comJsonInvalido_usaChaveDoIp() throws Exception {
+        when(rateLimiter.tryConsume(anyString(), anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitDecision.allowed(9));
+
+        filter.doFilter(login("{nao e json".getBytes(StandardCharsets.UTF_8)), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryConsume("login", "ip:127.0.0.1", 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void doFilter_comContentLengthAcimaDoLimite_retorna413SemLerCorpo() throws Exception {
+        MockHttpServletRequest request = spy(login(new byte[0]));
+        doReturn(1_000_000L).when(request).getContentLengthLong();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        verify(request, never()).getInputStream();
+        verifyNoInteractions(chain, rateLimiter);
+    }
+
+    @Test
+    void doFilter_comCorpoChunkedAcimaDoLimite_retorna413() throws Exception {
+        InputStream huge = new ByteArrayInputStream(new byte[10_000]);
+        MockHttpServletRequest request = spy(login(new byte[0]));
+        doReturn(-1L).when(request).getContentLengthLong();
+        doReturn(new DelegatingServletInputStream(huge)).when(request).getInputStream();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(huge.available()).isEqualTo(10_000 - 65);
+        verifyNoInteractions(chain, rateLimiter);
+    }
+
+    private MockHttpServletRequest login(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setContentType("application/json");
+        request.setContent(body);
+        return request;
+    }
+}
@@ -0,0 +1,161 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import com.joelmofraga.artists_albums_api.security.RateLimitWindowRepository.Reservation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PostgresRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:30Z"));
+    private final AtomicInteger reserveCalls = new AtomicInteger();
+
+    private RateLimitWindowRepository windows;
+
+    @BeforeEach
+    void setUp() {
+        windows = mock(RateLimitWindowRepository.class);
+
+        Map<String, int[]> table = new HashMap<>();
+        when(windows.reserve(anyString(), any(Instant.class), any(Instant.class), anyInt(), anyInt())).thenAnswer(inv -> {
+            reserveCalls.incrementAndGet();
+            String key = inv.getArgument(0);
+            int batch = inv.getArgument(3);
+            int limit = inv.getArgument(4);
+            synchronized (table) {
+                int[] used = table.computeIfAbsent(key, k -> new int[1]);
+                int granted = Math.min(batch, Math.max(limit - used[0], 0));
+                used[0] += granted;
+                return new Reservation(granted, used[0]);
+            }
+        });
+    }
+
+    @Test
+    void tryConsume_variasInstancias_respeitamLimiteGlobal_comReservasEmLote() {
+        List<PostgresRateLimiter> replicas = List.of(newReplica(), newReplica(), newReplica());
+
+        int allowed = 0;
+        for (int i = 0; i < 120; i++) {
+            if (replicas.get(i % replicas.size()).tryConsume("api", "user:ana", 30, WINDOW).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(30);
+        assertThat(reserveCalls.get()).isLessThanOrEqualTo(30 / 3 + replicas.size());
+    }
+
+    @Test
+    void tryConsume_quandoEsgotado_informaRetryAteFimDaJanela_semNovasIdasAoBanco() {
+        PostgresRateLimiter limiter = newReplica();
+        for (int i = 0; i < 10; i++) {
+            limiter.tryConsume("login", "ip:1.2.3.4", 10, WINDOW);
+        }
+        int callsAtLimit = reserveCalls.get();
+
+        RateLimitDecision first = limiter.tryConsume("login", "ip:1.2.3.4", 10, WINDOW);
+        RateLimitDecision second = limiter.tryConsume("login", "ip:1.2.3.4", 10, WINDOW);
+
+        assertThat(first.allowed()).isFalse();
+        assertThat(first.retryAfterSeconds()).isEqualTo(30);
+        assertThat(second.allowed()).isFalse();
+        assertThat(reserveCalls.get()).isEqualTo(callsAtLimit + 1);
+    }
+
+    @Test
+    void tryConsume_quandoBancoIndisponivel_permiteRequisicao() {
+        reset(windows);
+        when(windows.reserve(anyString(), any(Instant.class), any(Instant.class), anyInt(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        assertThat(newReplica().tryConsume("api", "user:ana", 10, WINDOW).allowed()).isTrue();
+    }
+
+    @Test
+    void tryConsume_comLimitePequeno_reservaLoteMaiorQueUm() {
+        PostgresRateLimiter limiter = newReplica();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryConsume("login", "ip:1.2.3.4", 10, WINDOW).allowed()).isTrue();
+        }
+
+        assertThat(reserveCalls.get()).isEqualTo(4);
+        assertThat(limiter.batchFor(5)).isEqualTo(3);
+        assertThat(limiter.batchFor(2)).isEqualTo(2);
+        assertThat(limiter.batchFor(120)).isEqualTo(10);
+    }
+
+    @Test
+    void tryConsume_quandoBancoIndisponivel_usaLimiteLocalSemConsultarBancoAteFecharCircuito() {
+        reset(windows);
+        when(windows.reserve(anyString(), any(Instant.class), any(Instant.class), anyInt(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        PostgresRateLimiter limiter = newReplica();
+
+        int allowed = 0;
+        for (int i = 0; i < 15; i++) {
+            if (limiter.tryConsume("api", "user:ana", 10, WINDOW).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(10);
+        verify(windows, times(1)).reserve(anyString(), any(Instant.class), any(Instant.class), anyInt(), anyInt());
+
+        clock.advance(Duration.ofSeconds(31));
+        limiter.tryConsume("api", "user:ana", 10, WINDOW);
+
+        verify(windows, times(2)).reserve(anyString(), any(Instant.class), any(Instant.class), anyInt(), anyInt());
+    }
+
+    private PostgresRateLimiter newReplica() {
+        RateLimitStore store = new RateLimitStore(new SimpleMeterRegistry(), 1024 * 1024, 600);
+        return new PostgresRateLimiter(windows, store, 10, 3, 0.25, 30_000, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    private UserDetailsService userDetailsService;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(UserDetailsService.class);
+        cache = new PrincipalCache(userDetailsService, new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @Test
+    void load_deveConsultarUmaVez_eReutilizarPrincipal() {
+        when(userDetailsService.loadUserByUsername("administrador")).thenReturn(
+                User.withUsername("administrador").password("$2a$hash").roles("ADMIN").build()
+        );
+
+        UserDetails first = cache.load("administrador");
+        UserDetails second = cache.load("administrador");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPassword()).isEmpty();
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+
+        verify(userDetailsService, times(1)).loadUserByUsername("administrador");
+    }
+
+    @Test
+    void evict_deveForcarNovaConsulta() {
+        when(userDetailsService.loadUserByUsername("usuario_1")).thenReturn(
+                User.withUsername("usuario_1").password("x").roles("USER").build(),
+                User.withUsername("usuario_1").password("x").roles("USER").disabled(true).build()
+        );
+
+        assertThat(cache.load("usuario_1").isEnabled()).isTrue();
+
+        cache.evict("usuario_1");
+
+        assertThat(cache.load("usuario_1").isEnabled()).isFalse();
+        verify(userDetailsService, times(2)).loadUserByUsername("usuario_1");
+    }
+
+    @Test
+    void load_quandoUsuarioNaoExiste_propagaExcecao_eNaoCacheia() {
+        when(userDetailsService.loadUserByUsername("ghost")).thenThrow(new UsernameNotFoundException("User not found"));
+
+        assertThatThrownBy(() -> cache.load("ghost")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> cache.load("ghost")).isInstanceOf(UsernameNotFoundException.class);
+
+        verify(userDetailsService, times(2)).loadUserByUsername("ghost");
+    }
+
+    @Test
+    void load_quandoEvictOcorreDuranteConsulta_naoCacheiaPrincipalAntigo() {
+        when(userDetailsService.loadUserByUsername("usuario_2")).thenAnswer(inv -> {
+            cache.evict("usuario_2");
+            return User.withUsername("usuario_2").password("x").roles("USER").build();
+        });
+
+        cache.load("usuario_2");
+        cache.load("usuario_2");
+
+        verify(userDetailsService, times(2)).loadUserByUsername("usuario_2");
+    }
+}
@@ -0,0 +1,68 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimitPoliciesTest {
+
+    private final RateLimitPolicies policies = new RateLimitPolicies(new RateLimitPolicyProperties(
+            new RateLimitPolicyProperties.Limit(10, Duration.ofMinutes(1)),
+            List.of(
+                    new RateLimitPolicyProperties.Rule("albums-read", "/api/v1/albums/**", List.of("get"), List.of(), 120, Duration.ofMinutes(1)),
+                    new RateLimitPolicyProperties.Rule("staff-write", "/api/v1/**", List.of("POST", "PUT", "PATCH", "DELETE"), List.of("ADMIN", "editor"), 60, Duration.ofMinutes(1))
+            )
+    ));
+
+    @Test
+    void resolve_getEmAlbums_usaPoliticaDeLeitura() {
+        RateLimitPolicy policy = policies.resolve(new MockHttpServletRequest("GET", "/api/v1/albums/42"), user("ROLE_USER"));
+
+        assertThat(policy.limit()).isEqualTo(120);
+        assertThat(policy.namespace()).isEqualTo("albums-read:120/60s");
+    }
+
+    @Test
+    void resolve_escritaPorPerfilListado_usaPoliticaDoPerfil() {
+        RateLimitPolicy policy = policies.resolve(new MockHttpServletRequest("POST", "/api/v1/albums"), user("ROLE_EDITOR"));
+
+        assertThat(policy.limit()).isEqualTo(60);
+    }
+
+    @Test
+    void resolve_leituraPorPerfilListado_naoUsaPoliticaDeEscrita() {
+        RateLimitPolicy policy = policies.resolve(new MockHttpServletRequest("GET", "/api/v1/artists/3"), user("ROLE_EDITOR"));
+
+        assertThat(policy.namespace()).startsWith("default:");
+    }
+
+    @Test
+    void resolve_semRegraAplicavel_usaPadrao() {
+        assertThat(policies.resolve(new MockHttpServletRequest("POST", "/api/v1/albums"), user("ROLE_USER")).limit())
+                .isEqualTo(10);
+        assertThat(policies.resolve(new MockHttpServletRequest("DELETE", "/api/v1/tracks/1"), null).limit())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void construtor_comJanelaInvalida_falha() {
+        RateLimitPolicyProperties properties = new RateLimitPolicyProperties(
+                new RateLimitPolicyProperties.Limit(10, Duration.ofMinutes(1)),
+                List.of(new RateLimitPolicyProperties.Rule("bad", "/x", List.of(), List.of(), 5, Duration.ZERO))
+        );
+
+        assertThatThrownBy(() -> new RateLimitPolicies(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Authentication user(String authority) {
+        return new UsernamePasswordAuthenticationToken("ana", null, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimitStoreTest {
+
+    @Test
+    void resolve_mesmaChave_reutilizaBucket_eNamespacesSaoIsolados() {
+        RateLimitStore store = new RateLimitStore(new SimpleMeterRegistry(), 1024 * 1024, 600);
+
+        Bucket first = store.resolve("api", "user:ana", this::newBucket);
+        Bucket second = store.resolve("api", "user:ana", this::newBucket);
+        Bucket login = store.resolve("login", "user:ana", this::newBucket);
+
+        assertThat(second).isSameAs(first);
+        assertThat(login).isNotSameAs(first);
+    }
+
+    @Test
+    void resolve_muitasChaves_mantemMemoriaLimitada() {
+        long maxBytes = 100L * RateLimitStore.weigh("api:ip:10.0.000.000");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitStore store = new RateLimitStore(registry, maxBytes, 600);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.resolve("api", String.format("ip:10.0.%03d.%03d", i / 256, i % 256), this::newBucket);
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(100);
+        assertThat(registry.get("rate.limit.store.bytes").gauge().value()).isLessThanOrEqualTo(maxBytes);
+        assertThat(registry.get("rate.limit.store.keys").gauge().value()).isLessThanOrEqualTo(100);
+    }
+
+    private Bucket newBucket() {
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(10, Refill.intervally(10, Duration.ofMinutes(1))))
+                .build();
+    }
+}
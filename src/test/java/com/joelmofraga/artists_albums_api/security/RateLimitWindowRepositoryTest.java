@@ -0,0 +1,100 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import com.joelmofraga.artists_albums_api.security.RateLimitWindowRepository.Reservation;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitWindowRepositoryTest {
+
+    private static final String KEY = "api:user:ana";
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    private static final Instant W0 = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant W1 = W0.plus(WINDOW);
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private RateLimitWindowRepository repository;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from rate_limit_window");
+        repository = new RateLimitWindowRepository(jdbcTemplate);
+    }
+
+    @Test
+    void reserve_primeiraReserva_concedeLoteLimitadoAoLimite() {
+        assertThat(reserve(W0, 3, 10)).isEqualTo(new Reservation(3, 3));
+        assertThat(repository.reserve("login:ip:1.2.3.4", W0, W0.plus(WINDOW), 20, 5))
+                .isEqualTo(new Reservation(5, 5));
+    }
+
+    @Test
+    void reserve_ateEsgotar_concedeSomenteOQueFaltaParaOLimite() {
+        assertThat(reserve(W0, 4, 10)).isEqualTo(new Reservation(4, 4));
+        assertThat(reserve(W0, 4, 10)).isEqualTo(new Reservation(4, 8));
+        assertThat(reserve(W0, 4, 10)).isEqualTo(new Reservation(2, 10));
+        assertThat(reserve(W0, 4, 10)).isEqualTo(new Reservation(0, 10));
+    }
+
+    @Test
+    void reserve_novaJanela_substituiContagemDaAnterior() {
+        reserve(W0, 10, 10);
+
+        assertThat(reserve(W1, 3, 10)).isEqualTo(new Reservation(3, 3));
+        assertThat(windowStart()).isEqualTo(W1);
+    }
+
+    @Test
+    void reserve_chamadorEmJanelaAntiga_consomeDaJanelaAtualSemRetroceder() {
+        reserve(W1, 8, 10);
+
+        assertThat(reserve(W0, 3, 10)).isEqualTo(new Reservation(2, 10));
+        assertThat(windowStart()).isEqualTo(W1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select expires_at from rate_limit_window where bucket_key = ?", Timestamp.class, KEY).toInstant())
+                .isEqualTo(W1.plus(WINDOW));
+    }
+
+    @Test
+    void deleteExpired_removeSomenteJanelasVencidas() {
+        reserve(W0, 3, 10);
+        repository.reserve("api:user:bia", W1, W1.plus(WINDOW), 3, 10);
+
+        assertThat(repository.deleteExpired(W1.plusSeconds(1))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from rate_limit_window", Integer.class)).isEqualTo(1);
+    }
+
+    private Reservation reserve(Instant windowStart, int batch, int limit) {
+        return repository.reserve(KEY, windowStart, windowStart.plus(WINDOW), batch, limit);
+    }
+
+    private Instant windowStart() {
+        return jdbcTemplate.queryForObject(
+                "select window_start from rate_limit_window where bucket_key = ?", Timestamp.class, KEY).toInstant();
+    }
+}
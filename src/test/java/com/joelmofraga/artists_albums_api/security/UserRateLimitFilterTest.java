@@ -0,0 +1,71 @@
+package com.joelmofraga.artists_albums_api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserRateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserRateLimitFilter filter = new UserRateLimitFilter(rateLimiter, new RateLimitPolicies(
+            new RateLimitPolicyProperties(new RateLimitPolicyProperties.Limit(10, Duration.ofMinutes(1)), List.of())
+    ), meterRegistry);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_usuarioAutenticado_consomeUmaVezComChaveDoUsuario() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        when(rateLimiter.tryConsume(anyString(), anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitDecision.allowed(7));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/albums"), response, new MockFilterChain());
+
+        verify(rateLimiter, times(1)).tryConsume("api:default:10/60s", "user:ana", 10, Duration.ofMinutes(1));
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("7");
+    }
+
+    @Test
+    void doFilter_aposLimite_retorna429ComRetryAfter() throws Exception {
+        when(rateLimiter.tryConsume(anyString(), anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(RateLimitDecision.rejected(42));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/albums"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("42");
+        assertThat(meterRegistry.counter("rate.limit.rejections", "filter", "api", "policy", "default:10/60s").count())
+                .isEqualTo(1.0);
+        verify(rateLimiter).tryConsume(eq("api:default:10/60s"), eq("ip:127.0.0.1"), eq(10), any(Duration.class));
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilter_rotaDeAuth_naoConsome() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/auth/login"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(rateLimiter);
+    }
+}
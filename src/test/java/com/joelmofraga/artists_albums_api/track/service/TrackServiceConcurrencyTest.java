@@ -0,0 +1,160 @@
+package com.joelmofraga.artists_albums_api.track.service;
+
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.track.dto.TrackBatchCreateRequest;
+import com.joelmofraga.artists_albums_api.track.dto.TrackCreateRequest;
+import com.joelmofraga.artists_albums_api.track.dto.TrackResponse;
+import com.joelmofraga.artists_albums_api.track.repository.TrackRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TrackServiceConcurrencyTest {
+
+    private static final int BATCHES = 8;
+    private static final int TRACKS_PER_BATCH = 5;
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16");
+
+    private static AnnotationConfigApplicationContext context;
+    private static JdbcTemplate jdbcTemplate;
+
+    private TrackService trackService;
+    private Long albumId;
+
+    @BeforeAll
+    static void startContext() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        context = new AnnotationConfigApplicationContext(JpaConfig.class);
+    }
+
+    @AfterAll
+    static void closeContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        trackService = context.getBean(TrackService.class);
+        albumId = jdbcTemplate.queryForObject("""
+                insert into album (title, release_year, album_type_id)
+                values ('Lote Concorrente ' || gen_random_uuid(), 1986, (select id from album_type where code = 'STUDIO'))
+                returning id
+                """, Long.class);
+    }
+
+    @Test
+    void addAllToAlbum_lotesConcorrentesNoMesmoAlbum_numeraSemConflitoESemLacunas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BATCHES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<TrackResponse>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < BATCHES; i++) {
+                TrackBatchCreateRequest request = batch(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return trackService.addAllToAlbum(albumId, request);
+                }));
+            }
+            start.countDown();
+
+            for (Future<List<TrackResponse>> result : results) {
+                List<Integer> numbers = result.get(30, TimeUnit.SECONDS).stream()
+                        .map(TrackResponse::trackNumber)
+                        .toList();
+                assertThat(numbers).hasSize(TRACKS_PER_BATCH);
+                assertThat(numbers.getLast() - numbers.getFirst()).isEqualTo(TRACKS_PER_BATCH - 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> stored = jdbcTemplate.queryForList(
+                "select track_number from track where album_id = ? order by track_number", Integer.class, albumId);
+        assertThat(stored).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, BATCHES * TRACKS_PER_BATCH).boxed().toList());
+    }
+
+    private TrackBatchCreateRequest batch(int index) {
+        return new TrackBatchCreateRequest(IntStream.range(0, TRACKS_PER_BATCH)
+                .mapToObj(j -> new TrackCreateRequest("Faixa " + index + "-" + j, 180))
+                .toList());
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @EnableJpaRepositories(basePackageClasses = {AlbumRepository.class, TrackRepository.class})
+    static class JpaConfig {
+
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.joelmofraga.artists_albums_api");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        CatalogReadCaches catalogReadCaches() {
+            return new CatalogReadCaches(new SimpleMeterRegistry(), true, 100, 300, 30);
+        }
+
+        @Bean
+        TrackService trackService(TrackRepository trackRepository, AlbumRepository albumRepository,
+                                  CatalogReadCaches caches) {
+            return new TrackService(trackRepository, albumRepository, caches);
+        }
+    }
+}
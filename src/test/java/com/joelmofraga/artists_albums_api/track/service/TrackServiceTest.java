@@ -0,0 +1,83 @@
+package com.joelmofraga.artists_albums_api.track.service;
+
+import com.joelmofraga.artists_albums_api.album.domain.Album;
+import com.joelmofraga.artists_albums_api.album.repository.AlbumRepository;
+import com.joelmofraga.artists_albums_api.cache.CatalogReadCaches;
+import com.joelmofraga.artists_albums_api.track.domain.Track;
+import com.joelmofraga.artists_albums_api.track.dto.TrackBatchCreateRequest;
+import com.joelmofraga.artists_albums_api.track.dto.TrackCreateRequest;
+import com.joelmofraga.artists_albums_api.track.dto.TrackResponse;
+import com.joelmofraga.artists_albums_api.track.repository.TrackRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrackServiceTest {
+
+    @Mock private TrackRepository trackRepository;
+    @Mock private AlbumRepository albumRepository;
+    @Spy private CatalogReadCaches caches = CatalogReadCaches.disabled();
+
+    @InjectMocks
+    private TrackService service;
+
+    @Test
+    void addAllToAlbum_gravaLoteComFlushUnico_eNumeraEmSequencia() {
+        when(albumRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(new Album()));
+        when(trackRepository.findMaxTrackNumberByAlbumId(7L)).thenReturn(2);
+        when(trackRepository.saveAllAndFlush(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<TrackResponse> resp = service.addAllToAlbum(7L, new TrackBatchCreateRequest(List.of(
+                new TrackCreateRequest(" Intro ", 60),
+                new TrackCreateRequest("Outro", null)
+        )));
+
+        assertThat(resp).extracting(TrackResponse::trackNumber).containsExactly(3, 4);
+        assertThat(resp).extracting(TrackResponse::title).containsExactly("Intro", "Outro");
+
+        verify(trackRepository).saveAllAndFlush(anyList());
+        verify(trackRepository, never()).saveAll(anyList());
+        verify(trackRepository, never()).save(any(Track.class));
+    }
+
+    @Test
+    void addAllToAlbum_quandoViolaUnicidadeNoFlush_lancaConflito() {
+        when(albumRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(new Album()));
+        when(trackRepository.findMaxTrackNumberByAlbumId(7L)).thenReturn(0);
+        when(trackRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("ux_track_album_number"));
+
+        assertThatThrownBy(() -> service.addAllToAlbum(7L, new TrackBatchCreateRequest(List.of(
+                new TrackCreateRequest("Intro", 60)
+        )))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void addAllToAlbum_deveBloquearAlbumAntesDeLerUltimoNumero() {
+        when(albumRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(new Album()));
+        when(trackRepository.findMaxTrackNumberByAlbumId(7L)).thenReturn(0);
+        when(trackRepository.saveAllAndFlush(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        service.addAllToAlbum(7L, new TrackBatchCreateRequest(List.of(
+                new TrackCreateRequest("Intro", 60)
+        )));
+
+        InOrder inOrder = inOrder(albumRepository, trackRepository);
+        inOrder.verify(albumRepository).findByIdForUpdate(7L);
+        inOrder.verify(trackRepository).findMaxTrackNumberByAlbumId(7L);
+        inOrder.verify(trackRepository).saveAllAndFlush(anyList());
+        verify(albumRepository, never()).findById(any());
+    }
+}